@@ -1,5 +1,9 @@
 import { doRequest } from '../../requests/request'
-import { ApplicationState, IApplication } from '../../requests/responses/application'
+import {
+  ApplicationState,
+  IApplication,
+  IApplicationStateChange,
+} from '../../requests/responses/application'
 import { showSimpleError, showSimpleSuccess } from '../../utils/notification'
 import { Button, Checkbox, Modal, Radio, Stack, Text } from '@mantine/core'
 import React, { useEffect, useState } from 'react'
@@ -50,7 +54,7 @@ const ApplicationRejectButton = (props: IApplicationRejectButtonProps) => {
     setLoading(true)
 
     try {
-      const response = await doRequest<IApplication[]>(
+      const response = await doRequest<IApplicationStateChange[]>(
         `/v2/applications/${application.applicationId}/reject`,
         {
           method: 'PUT',
@@ -74,10 +78,24 @@ const ApplicationRejectButton = (props: IApplicationRejectButtonProps) => {
         )
 
         if (currentApplication) {
-          onUpdate(currentApplication)
+          onUpdate({ ...application, ...currentApplication })
         }
 
         setConfirmationModal(false)
+
+        // the state changes do not contain the reviewers, so reload the shown application
+        const applicationResponse = await doRequest<IApplication>(
+          `/v2/applications/${application.applicationId}`,
+          {
+            method: 'GET',
+            requiresAuth: true,
+          },
+        )
+
+        if (applicationResponse.ok) {
+          updateApplicationContext(applicationResponse.data)
+          onUpdate(applicationResponse.data)
+        }
       } else {
         showSimpleError(getApiResponseErrorMessage(response))
       }
@@ -1,5 +1,5 @@
 import React from 'react'
-import { IApplication } from '../../requests/responses/application'
+import { IApplicationSummary } from '../../requests/responses/application'
 import { DataTable, DataTableColumn } from 'mantine-datatable'
 import { Badge, Center } from '@mantine/core'
 import { formatApplicationState, formatDate, formatThesisType } from '../../utils/format'
@@ -18,9 +18,9 @@ type ApplicationColumn =
   | string
 
 interface IApplicationsTableProps {
-  onApplicationClick: (application: IApplication) => unknown
+  onApplicationClick: (application: IApplicationSummary) => unknown
   columns?: ApplicationColumn[]
-  extraColumns?: Record<string, DataTableColumn<IApplication>>
+  extraColumns?: Record<string, DataTableColumn<IApplicationSummary>>
 }
 
 const ApplicationsTable = (props: IApplicationsTableProps) => {
@@ -32,7 +32,7 @@ const ApplicationsTable = (props: IApplicationsTableProps) => {
 
   const { applications, sort, setSort, page, setPage, limit } = useApplicationsContext()
 
-  const columnConfig: Record<ApplicationColumn, DataTableColumn<IApplication>> = {
+  const columnConfig: Record<ApplicationColumn, DataTableColumn<IApplicationSummary>> = {
     state: {
       accessor: 'state',
       title: 'State',
@@ -1,10 +1,10 @@
-import { ILightUser } from '../../requests/responses/user'
+import { IUserSummary } from '../../requests/responses/user'
 import { Group, MantineSize, Text } from '@mantine/core'
 import { formatUser } from '../../utils/format'
 import CustomAvatar from '../CustomAvatar/CustomAvatar'
 
 interface IAvatarUserProps {
-  user: ILightUser
+  user: IUserSummary
   withUniversityId?: boolean
   size?: MantineSize
 }
@@ -1,9 +1,9 @@
-import { ILightUser } from '../../requests/responses/user'
+import { IUserSummary } from '../../requests/responses/user'
 import { MantineSize, Stack } from '@mantine/core'
 import AvatarUser from '../AvatarUser/AvatarUser'
 
 interface IAvatarUserListProps {
-  users: ILightUser[]
+  users: IUserSummary[]
   withUniversityId?: boolean
   size?: MantineSize
   oneLine?: boolean
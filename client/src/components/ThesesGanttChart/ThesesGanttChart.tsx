@@ -1,4 +1,4 @@
-import { useThesesContext } from '../../providers/ThesesProvider/hooks'
+import { useFullThesesContext } from '../../providers/ThesesProvider/hooks'
 import GanttChart from '../GanttChart/GanttChart'
 import React, { useMemo, useState } from 'react'
 import { formatDate, formatPresentationType, formatThesisType } from '../../utils/format'
@@ -15,7 +15,7 @@ import LabeledItem from '../LabeledItem/LabeledItem'
 import { IGanttChartDataElement } from '../GanttChart/context'
 
 const ThesesGanttChart = () => {
-  const { theses, page, setPage } = useThesesContext()
+  const { theses, page, setPage } = useFullThesesContext()
 
   const [openedThesis, setOpenedThesis] = useState<IThesis>()
 
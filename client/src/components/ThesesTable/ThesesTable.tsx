@@ -4,7 +4,7 @@ import React from 'react'
 import { useThesesContext } from '../../providers/ThesesProvider/hooks'
 import { IThesesSort } from '../../providers/ThesesProvider/context'
 import { useNavigate } from 'react-router'
-import { IThesis } from '../../requests/responses/thesis'
+import { IThesisSummary } from '../../requests/responses/thesis'
 import ThesisStateBadge from '../ThesisStateBadge/ThesisStateBadge'
 import { Center } from '@mantine/core'
 import AvatarUserList from '../AvatarUserList/AvatarUserList'
@@ -22,7 +22,7 @@ type ThesisColumn =
 
 interface IThesesTableProps {
   columns?: ThesisColumn[]
-  extraColumns?: Record<string, DataTableColumn<IThesis>>
+  extraColumns?: Record<string, DataTableColumn<IThesisSummary>>
 }
 
 const ThesesTable = (props: IThesesTableProps) => {
@@ -35,11 +35,11 @@ const ThesesTable = (props: IThesesTableProps) => {
 
   const navigate = useNavigate()
 
-  const onThesisClick = (thesis: IThesis) => {
+  const onThesisClick = (thesis: IThesisSummary) => {
     navigate(`/theses/${thesis.thesisId}`)
   }
 
-  const columnConfig: Record<ThesisColumn, DataTableColumn<IThesis>> = {
+  const columnConfig: Record<ThesisColumn, DataTableColumn<IThesisSummary>> = {
     state: {
       accessor: 'state',
       title: 'State',
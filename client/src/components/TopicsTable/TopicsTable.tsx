@@ -1,7 +1,7 @@
 import { DataTable, DataTableColumn } from 'mantine-datatable'
 import { formatDate, formatThesisType } from '../../utils/format'
 import { useTopicsContext } from '../../providers/TopicsProvider/hooks'
-import { ITopic } from '../../requests/responses/topic'
+import { ITopicSummary } from '../../requests/responses/topic'
 import { useNavigate } from 'react-router'
 import { Badge, Center, Stack, Text } from '@mantine/core'
 import AvatarUserList from '../AvatarUserList/AvatarUserList'
@@ -11,7 +11,7 @@ type TopicColumn = 'title' | 'types' | 'advisor' | 'supervisor' | 'state' | 'cre
 
 interface ITopicsTableProps {
   columns?: TopicColumn[]
-  extraColumns?: Record<string, DataTableColumn<ITopic>>
+  extraColumns?: Record<string, DataTableColumn<ITopicSummary>>
   noBorder?: boolean
 }
 
@@ -26,7 +26,7 @@ const TopicsTable = (props: ITopicsTableProps) => {
 
   const { topics, page, setPage, limit } = useTopicsContext()
 
-  const columnConfig: Record<TopicColumn, DataTableColumn<ITopic>> = {
+  const columnConfig: Record<TopicColumn, DataTableColumn<ITopicSummary>> = {
     state: {
       accessor: 'state',
       title: 'State',
@@ -57,6 +57,7 @@ const UserMultiSelect = (props: IUserMultiSelectProps) => {
           searchQuery: debouncedSearchValue,
           page: '0',
           limit: '100',
+          withTotal: 'false',
         },
       },
       (res) => {
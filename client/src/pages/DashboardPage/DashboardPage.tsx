@@ -13,6 +13,9 @@ import ApplicationModal from '../../components/ApplicationModal/ApplicationModal
 import MyTasksSection from './components/MyTasksSection/MyTasksSection'
 import { Pencil } from 'phosphor-react'
 import { ThesisState } from '../../requests/responses/thesis'
+import { doRequest } from '../../requests/request'
+import { showSimpleError } from '../../utils/notification'
+import { getApiResponseErrorMessage } from '../../requests/handler'
 
 const DashboardPage = () => {
   usePageTitle('Dashboard')
@@ -21,12 +24,26 @@ const DashboardPage = () => {
 
   const managementAccess = useManagementAccess()
 
+  const openApplication = async (applicationId: string) => {
+    const response = await doRequest<IApplication>(`/v2/applications/${applicationId}`, {
+      method: 'GET',
+      requiresAuth: true,
+    })
+
+    if (response.ok) {
+      setApplication(response.data)
+    } else {
+      showSimpleError(getApiResponseErrorMessage(response))
+    }
+  }
+
   return (
     <Stack gap='md'>
       <Title order={1}>Dashboard</Title>
       <MyTasksSection />
       <ThesesProvider
         hideIfEmpty
+        summaries={!managementAccess}
         defaultStates={
           managementAccess
             ? [
@@ -47,6 +64,7 @@ const DashboardPage = () => {
       </ThesesProvider>
       <ApplicationsProvider
         hideIfEmpty={true}
+        summaries={true}
         limit={10}
         defaultTopics={[]}
         defaultStates={[]}
@@ -68,7 +86,7 @@ const DashboardPage = () => {
         <Stack gap='xs'>
           <Title order={2}>My Applications</Title>
           <ApplicationsTable
-            onApplicationClick={setApplication}
+            onApplicationClick={(row) => openApplication(row.applicationId)}
             columns={[
               'state',
               'thesis_title',
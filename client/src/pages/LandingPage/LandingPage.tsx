@@ -14,7 +14,7 @@ const LandingPage = () => {
   return (
     <PublicArea hero={<HeroSection />}>
       <Stack>
-        <TopicsProvider limit={10}>
+        <TopicsProvider summaries={true} limit={10}>
           <Stack gap='xs'>
             <Title order={2}>Open Topics</Title>
             <TopicsTable
@@ -8,6 +8,9 @@ import { Pencil } from 'phosphor-react'
 import CloseTopicButton from './components/CloseTopicButton/CloseTopicButton'
 import ReplaceTopicModal from './components/ReplaceTopicModal/ReplaceTopicModal'
 import TopicsFilters from '../../components/TopicsFilters/TopicsFilters'
+import { doRequest } from '../../requests/request'
+import { showSimpleError } from '../../utils/notification'
+import { getApiResponseErrorMessage } from '../../requests/handler'
 
 const ManageTopicsPage = () => {
   usePageTitle('Manage Topics')
@@ -15,8 +18,21 @@ const ManageTopicsPage = () => {
   const [editingTopic, setEditingTopic] = useState<ITopic>()
   const [createTopicModal, setCreateTopicModal] = useState(false)
 
+  const onEditTopic = async (topicId: string) => {
+    const response = await doRequest<ITopic>(`/v2/topics/${topicId}`, {
+      method: 'GET',
+      requiresAuth: true,
+    })
+
+    if (response.ok) {
+      setEditingTopic(response.data)
+    } else {
+      showSimpleError(getApiResponseErrorMessage(response))
+    }
+  }
+
   return (
-    <TopicsProvider limit={20}>
+    <TopicsProvider summaries={true} limit={20}>
       <Stack gap='md'>
         <Group>
           <Title>Manage Topics</Title>
@@ -51,7 +67,7 @@ const ManageTopicsPage = () => {
                   gap='xs'
                 >
                   {!topic.closedAt && (
-                    <Button size='xs' onClick={() => setEditingTopic(topic)}>
+                    <Button size='xs' onClick={() => onEditTopic(topic.topicId)}>
                       <Pencil />
                     </Button>
                   )}
@@ -1,4 +1,4 @@
-import { ITopic } from '../../../../requests/responses/topic'
+import { ITopic, ITopicSummary } from '../../../../requests/responses/topic'
 import { X } from 'phosphor-react'
 import React, { useEffect, useState } from 'react'
 import { useTopicsContext } from '../../../../providers/TopicsProvider/hooks'
@@ -9,7 +9,7 @@ import { useForm } from '@mantine/form'
 import { Button, Checkbox, Modal, Select, Stack, Text } from '@mantine/core'
 
 interface ICloseTopicButtonProps {
-  topic: ITopic
+  topic: ITopicSummary
   size?: string
 }
 
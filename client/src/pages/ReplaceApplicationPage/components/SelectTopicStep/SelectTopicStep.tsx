@@ -1,6 +1,6 @@
 import { ITopic } from '../../../../requests/responses/topic'
 import { Accordion, Button, Center, Skeleton, Stack, Text } from '@mantine/core'
-import { useTopicsContext } from '../../../../providers/TopicsProvider/hooks'
+import { useFullTopicsContext } from '../../../../providers/TopicsProvider/hooks'
 import React from 'react'
 import TopicAccordionItem from '../../../../components/TopicAccordionItem/TopicAccordionItem'
 import TopicsFilters from '../../../../components/TopicsFilters/TopicsFilters'
@@ -13,7 +13,7 @@ interface ISelectTopicStepProps {
 const SelectTopicStep = (props: ISelectTopicStepProps) => {
   const { onComplete } = props
 
-  const { topics } = useTopicsContext()
+  const { topics } = useFullTopicsContext()
 
   if (
     !GLOBAL_CONFIG.allow_suggested_topics &&
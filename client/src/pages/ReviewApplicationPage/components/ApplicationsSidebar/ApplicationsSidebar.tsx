@@ -2,7 +2,7 @@ import { Center, Pagination, Stack, Text } from '@mantine/core'
 import ApplicationsFilters from '../../../../components/ApplicationsFilters/ApplicationsFilters'
 import React, { useEffect, useState } from 'react'
 import { IApplication } from '../../../../requests/responses/application'
-import { useApplicationsContext } from '../../../../providers/ApplicationsProvider/hooks'
+import { useFullApplicationsContext } from '../../../../providers/ApplicationsProvider/hooks'
 import ApplicationListItem from '../ApplicationListItem/ApplicationListItem'
 
 interface IApplicationsSidebarProps {
@@ -14,7 +14,7 @@ interface IApplicationsSidebarProps {
 const ApplicationsSidebar = (props: IApplicationsSidebarProps) => {
   const { selected, isSmallScreen, onSelect } = props
 
-  const { page, setPage, applications } = useApplicationsContext()
+  const { page, setPage, applications } = useFullApplicationsContext()
 
   const selectedIndex =
     applications?.content.findIndex((x) => x.applicationId === selected?.applicationId) ?? -1
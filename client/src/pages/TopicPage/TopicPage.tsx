@@ -45,7 +45,12 @@ const TopicPage = () => {
       {managementAccess && (
         <Stack>
           <Divider />
-          <ApplicationsProvider fetchAll={true} limit={10} defaultTopics={[topic.topicId]}>
+          <ApplicationsProvider
+            fetchAll={true}
+            summaries={true}
+            limit={10}
+            defaultTopics={[topic.topicId]}
+          >
             <ApplicationsTable
               onApplicationClick={(application) =>
                 navigate(`/applications/${application.applicationId}`)
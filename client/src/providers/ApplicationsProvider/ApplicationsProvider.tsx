@@ -7,7 +7,7 @@ import {
   IApplicationsFilters,
   IApplicationsSort,
 } from './context'
-import { ApplicationState, IApplication } from '../../requests/responses/application'
+import { ApplicationState, IApplicationSummary } from '../../requests/responses/application'
 import { useDebouncedValue } from '@mantine/hooks'
 import { showSimpleError } from '../../utils/notification'
 import { getApiResponseErrorMessage } from '../../requests/handler'
@@ -16,6 +16,7 @@ import { useLoggedInUser } from '../../hooks/authentication'
 
 interface IApplicationsProviderProps {
   fetchAll?: boolean
+  summaries?: boolean
   limit: number
   defaultStates?: ApplicationState[]
   defaultTopics?: string[]
@@ -32,6 +33,7 @@ const ApplicationsProvider = (props: PropsWithChildren<IApplicationsProviderProp
     defaultTopics,
     showOnlyAssignedTopics,
     fetchAll = false,
+    summaries = false,
     hideIfEmpty = false,
     emptyComponent,
   } = props
@@ -39,7 +41,7 @@ const ApplicationsProvider = (props: PropsWithChildren<IApplicationsProviderProp
   const user = useLoggedInUser()
   const topics = useAllTopics()
 
-  const [applications, setApplications] = useState<PaginationResponse<IApplication>>()
+  const [applications, setApplications] = useState<PaginationResponse<IApplicationSummary>>()
   const [page, setPage] = useState(0)
 
   const previousContent = useRef<string[]>([])
@@ -89,8 +91,8 @@ const ApplicationsProvider = (props: PropsWithChildren<IApplicationsProviderProp
       previousContent.current = []
     }
 
-    return doRequest<PaginationResponse<IApplication>>(
-      `/v2/applications`,
+    return doRequest<PaginationResponse<IApplicationSummary>>(
+      summaries ? '/v2/applications/summaries' : '/v2/applications',
       {
         method: 'GET',
         requiresAuth: true,
@@ -137,6 +139,7 @@ const ApplicationsProvider = (props: PropsWithChildren<IApplicationsProviderProp
     )
   }, [
     fetchAll,
+    summaries,
     page,
     limit,
     sort,
@@ -149,6 +152,7 @@ const ApplicationsProvider = (props: PropsWithChildren<IApplicationsProviderProp
 
   const contextState = useMemo<IApplicationsContext>(() => {
     return {
+      summaries,
       topics,
       applications,
       filters: adjustedFilters,
@@ -175,14 +179,14 @@ const ApplicationsProvider = (props: PropsWithChildren<IApplicationsProviderProp
           )
 
           if (index >= 0) {
-            prev.content[index] = newApplication
+            prev.content[index] = { ...prev.content[index], ...newApplication }
           }
 
           return { ...prev }
         })
       },
     }
-  }, [user.userId, topics, applications, adjustedFilters, sort, page, limit])
+  }, [user.userId, summaries, topics, applications, adjustedFilters, sort, page, limit])
 
   if (hideIfEmpty && page === 0 && (!applications || applications.content.length === 0)) {
     return <>{emptyComponent}</>
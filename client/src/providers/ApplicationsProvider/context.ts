@@ -1,6 +1,11 @@
 import React, { Dispatch, SetStateAction } from 'react'
 import { PaginationResponse } from '../../requests/responses/pagination'
-import { ApplicationState, IApplication } from '../../requests/responses/application'
+import {
+  ApplicationState,
+  IApplication,
+  IApplicationStateChange,
+  IApplicationSummary,
+} from '../../requests/responses/application'
 import { ITopic } from '../../requests/responses/topic'
 
 export interface IApplicationsFilters {
@@ -15,9 +20,10 @@ export interface IApplicationsSort {
   direction: 'asc' | 'desc'
 }
 
-export interface IApplicationsContext {
+export interface IApplicationsContext<T extends IApplicationSummary = IApplicationSummary> {
+  summaries: boolean
   topics: ITopic[] | undefined
-  applications: PaginationResponse<IApplication> | undefined
+  applications: PaginationResponse<T> | undefined
   filters: IApplicationsFilters
   setFilters: Dispatch<SetStateAction<IApplicationsFilters>>
   sort: IApplicationsSort
@@ -25,7 +31,7 @@ export interface IApplicationsContext {
   page: number
   setPage: Dispatch<SetStateAction<number>>
   limit: number
-  updateApplication: (application: IApplication) => unknown
+  updateApplication: (application: IApplication | IApplicationStateChange) => unknown
 }
 
 export const ApplicationsContext = React.createContext<IApplicationsContext | undefined>(undefined)
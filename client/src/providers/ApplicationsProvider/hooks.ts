@@ -1,6 +1,6 @@
 import { useContext } from 'react'
-import { ApplicationsContext } from './context'
-import { IApplication } from '../../requests/responses/application'
+import { ApplicationsContext, IApplicationsContext } from './context'
+import { IApplication, IApplicationStateChange } from '../../requests/responses/application'
 
 export function useApplicationsContext() {
   const data = useContext(ApplicationsContext)
@@ -12,7 +12,19 @@ export function useApplicationsContext() {
   return data
 }
 
-export function useApplicationsContextUpdater(): (application: IApplication) => unknown {
+export function useFullApplicationsContext() {
+  const data = useApplicationsContext()
+
+  if (data.summaries) {
+    throw new Error('ApplicationsContext only contains application summaries')
+  }
+
+  return data as IApplicationsContext<IApplication>
+}
+
+export function useApplicationsContextUpdater(): (
+  application: IApplication | IApplicationStateChange,
+) => unknown {
   const data = useContext(ApplicationsContext)
 
   if (!data) {
@@ -1,6 +1,6 @@
 import React, { PropsWithChildren, useEffect, useMemo, useState } from 'react'
 import { ThesesContext, IThesesContext, IThesesFilters, IThesesSort } from './context'
-import { IThesis, ThesisState } from '../../requests/responses/thesis'
+import { IThesisSummary, ThesisState } from '../../requests/responses/thesis'
 import { doRequest } from '../../requests/request'
 import { PaginationResponse } from '../../requests/responses/pagination'
 import { useDebouncedValue } from '@mantine/hooks'
@@ -9,15 +9,23 @@ import { getApiResponseErrorMessage } from '../../requests/handler'
 
 interface IThesesProviderProps {
   fetchAll?: boolean
+  summaries?: boolean
   limit: number
   defaultStates?: ThesisState[]
   hideIfEmpty?: boolean
 }
 
 const ThesesProvider = (props: PropsWithChildren<IThesesProviderProps>) => {
-  const { children, fetchAll = false, limit, hideIfEmpty = false, defaultStates } = props
+  const {
+    children,
+    fetchAll = false,
+    summaries = false,
+    limit,
+    hideIfEmpty = false,
+    defaultStates,
+  } = props
 
-  const [theses, setTheses] = useState<PaginationResponse<IThesis>>()
+  const [theses, setTheses] = useState<PaginationResponse<IThesisSummary>>()
   const [page, setPage] = useState(0)
 
   const [filters, setFilters] = useState<IThesesFilters>({
@@ -33,8 +41,8 @@ const ThesesProvider = (props: PropsWithChildren<IThesesProviderProps>) => {
   useEffect(() => {
     setTheses(undefined)
 
-    return doRequest<PaginationResponse<IThesis>>(
-      `/v2/theses`,
+    return doRequest<PaginationResponse<IThesisSummary>>(
+      summaries ? '/v2/theses/summaries' : '/v2/theses',
       {
         method: 'GET',
         requiresAuth: true,
@@ -68,6 +76,7 @@ const ThesesProvider = (props: PropsWithChildren<IThesesProviderProps>) => {
     )
   }, [
     fetchAll,
+    summaries,
     page,
     limit,
     sort,
@@ -78,6 +87,7 @@ const ThesesProvider = (props: PropsWithChildren<IThesesProviderProps>) => {
 
   const contextState = useMemo<IThesesContext>(() => {
     return {
+      summaries,
       theses,
       filters,
       setFilters: (value) => {
@@ -108,7 +118,7 @@ const ThesesProvider = (props: PropsWithChildren<IThesesProviderProps>) => {
         })
       },
     }
-  }, [theses, filters, sort, page, limit])
+  }, [summaries, theses, filters, sort, page, limit])
 
   if (hideIfEmpty && page === 0 && (!theses || theses.content.length === 0)) {
     return <></>
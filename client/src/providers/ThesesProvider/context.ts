@@ -1,5 +1,5 @@
 import React, { Dispatch, SetStateAction } from 'react'
-import { IThesis, ThesisState } from '../../requests/responses/thesis'
+import { IThesis, IThesisSummary, ThesisState } from '../../requests/responses/thesis'
 import { PaginationResponse } from '../../requests/responses/pagination'
 
 export interface IThesesFilters {
@@ -13,8 +13,9 @@ export interface IThesesSort {
   direction: 'asc' | 'desc'
 }
 
-export interface IThesesContext {
-  theses: PaginationResponse<IThesis> | undefined
+export interface IThesesContext<T extends IThesisSummary = IThesisSummary> {
+  summaries: boolean
+  theses: PaginationResponse<T> | undefined
   filters: IThesesFilters
   setFilters: Dispatch<SetStateAction<IThesesFilters>>
   sort: IThesesSort
@@ -1,5 +1,6 @@
 import { useContext } from 'react'
-import { ThesesContext } from './context'
+import { IThesesContext, ThesesContext } from './context'
+import { IThesis } from '../../requests/responses/thesis'
 
 export function useThesesContext() {
   const data = useContext(ThesesContext)
@@ -10,3 +11,13 @@ export function useThesesContext() {
 
   return data
 }
+
+export function useFullThesesContext() {
+  const data = useThesesContext()
+
+  if (data.summaries) {
+    throw new Error('ThesesContext only contains thesis summaries')
+  }
+
+  return data as IThesesContext<IThesis>
+}
@@ -1,20 +1,27 @@
 import React, { PropsWithChildren, useEffect, useMemo, useState } from 'react'
 import { doRequest } from '../../requests/request'
 import { showSimpleError } from '../../utils/notification'
-import { ITopic } from '../../requests/responses/topic'
+import { ITopicSummary } from '../../requests/responses/topic'
 import { ITopicsContext, ITopicsFilters, TopicsContext } from './context'
 import { PaginationResponse } from '../../requests/responses/pagination'
 
 interface ITopicsProviderProps {
   includeClosedTopics?: boolean
+  summaries?: boolean
   limit: number
   hideIfEmpty?: boolean
 }
 
 const TopicsProvider = (props: PropsWithChildren<ITopicsProviderProps>) => {
-  const { children, includeClosedTopics = false, limit, hideIfEmpty = false } = props
-
-  const [topics, setTopics] = useState<PaginationResponse<ITopic>>()
+  const {
+    children,
+    includeClosedTopics = false,
+    summaries = false,
+    limit,
+    hideIfEmpty = false,
+  } = props
+
+  const [topics, setTopics] = useState<PaginationResponse<ITopicSummary>>()
   const [page, setPage] = useState(0)
   const [filters, setFilters] = useState<ITopicsFilters>({
     includeClosed: includeClosedTopics,
@@ -23,8 +30,8 @@ const TopicsProvider = (props: PropsWithChildren<ITopicsProviderProps>) => {
   useEffect(() => {
     setTopics(undefined)
 
-    return doRequest<PaginationResponse<ITopic>>(
-      `/v2/topics`,
+    return doRequest<PaginationResponse<ITopicSummary>>(
+      summaries ? '/v2/topics/summaries' : '/v2/topics',
       {
         method: 'GET',
         requiresAuth: false,
@@ -52,10 +59,11 @@ const TopicsProvider = (props: PropsWithChildren<ITopicsProviderProps>) => {
         setTopics(res.data)
       },
     )
-  }, [filters, page, limit])
+  }, [summaries, filters, page, limit])
 
   const contextState = useMemo<ITopicsContext>(() => {
     return {
+      summaries,
       topics,
       filters,
       setFilters,
@@ -91,7 +99,7 @@ const TopicsProvider = (props: PropsWithChildren<ITopicsProviderProps>) => {
         })
       },
     }
-  }, [topics, filters, page, limit])
+  }, [summaries, topics, filters, page, limit])
 
   if (hideIfEmpty && page === 0 && (!topics || topics.content.length === 0)) {
     return <></>
@@ -1,5 +1,5 @@
 import React, { Dispatch, SetStateAction } from 'react'
-import { ITopic } from '../../requests/responses/topic'
+import { ITopic, ITopicSummary } from '../../requests/responses/topic'
 import { PaginationResponse } from '../../requests/responses/pagination'
 
 export interface ITopicsFilters {
@@ -7,8 +7,9 @@ export interface ITopicsFilters {
   includeClosed?: boolean
 }
 
-export interface ITopicsContext {
-  topics: PaginationResponse<ITopic> | undefined
+export interface ITopicsContext<T extends ITopicSummary = ITopicSummary> {
+  summaries: boolean
+  topics: PaginationResponse<T> | undefined
   filters: ITopicsFilters
   setFilters: Dispatch<SetStateAction<ITopicsFilters>>
   page: number
@@ -1,5 +1,6 @@
 import { useContext } from 'react'
-import { TopicsContext } from './context'
+import { ITopicsContext, TopicsContext } from './context'
+import { ITopic } from '../../requests/responses/topic'
 
 export function useTopicsContext() {
   const data = useContext(TopicsContext)
@@ -10,3 +11,13 @@ export function useTopicsContext() {
 
   return data
 }
+
+export function useFullTopicsContext() {
+  const data = useTopicsContext()
+
+  if (data.summaries) {
+    throw new Error('TopicsContext only contains topic summaries')
+  }
+
+  return data as ITopicsContext<ITopic>
+}
@@ -1,4 +1,4 @@
-import { ILightUser, IUser } from './user'
+import { ILightUser, IUser, IUserSummary } from './user'
 import { ITopic } from './topic'
 
 export enum ApplicationState {
@@ -17,6 +17,7 @@ export interface IApplication {
   state: ApplicationState
   desiredStartDate: string
   comment: string
+  rejectReason: string | null
   createdAt: string
   reviewers: Array<{
     user: ILightUser
@@ -25,3 +26,21 @@ export interface IApplication {
   }> | null
   reviewedAt: string | null
 }
+
+export interface IApplicationSummary {
+  applicationId: string
+  user: IUserSummary
+  thesisTitle: string | null
+  thesisType: string | null
+  state: ApplicationState
+  desiredStartDate: string
+  createdAt: string
+  reviewedAt: string | null
+}
+
+export interface IApplicationStateChange {
+  applicationId: string
+  state: ApplicationState
+  rejectReason: string | null
+  reviewedAt: string | null
+}
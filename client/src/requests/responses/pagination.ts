@@ -5,4 +5,6 @@ export interface PaginationResponse<T> {
   totalElements: number
   totalPages: number
   last: boolean
+  mode?: 'PAGE' | 'SLICE' | 'CURSOR'
+  nextCursor?: string | null
 }
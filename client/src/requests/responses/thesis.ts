@@ -1,4 +1,4 @@
-import { ILightUser } from './user'
+import { ILightUser, IUserSummary } from './user'
 
 export enum ThesisState {
   PROPOSAL = 'PROPOSAL',
@@ -89,6 +89,21 @@ export interface IThesis {
   }>
 }
 
+export interface IThesisSummary {
+  thesisId: string
+  title: string
+  type: string
+  language: string
+  visibility: string
+  state: ThesisState
+  startDate: string | null
+  endDate: string | null
+  createdAt: string
+  students: IUserSummary[]
+  advisors: IUserSummary[]
+  supervisors: IUserSummary[]
+}
+
 export interface IThesisComment {
   commentId: string
   message: string
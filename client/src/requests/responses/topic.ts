@@ -1,4 +1,4 @@
-import { ILightUser } from './user'
+import { ILightUser, IUserSummary } from './user'
 
 export interface ITopic {
   topicId: string
@@ -15,3 +15,13 @@ export interface ITopic {
   advisors: ILightUser[]
   supervisors: ILightUser[]
 }
+
+export interface ITopicSummary {
+  topicId: string
+  title: string
+  thesisTypes: string[] | null
+  closedAt: string | null
+  createdAt: string
+  advisors: IUserSummary[]
+  supervisors: IUserSummary[]
+}
@@ -1,3 +1,11 @@
+export interface IUserSummary {
+  userId: string
+  universityId: string
+  avatar: string | null
+  firstName: string | null
+  lastName: string | null
+}
+
 export interface ILightUser {
   userId: string
   universityId: string
@@ -1,4 +1,4 @@
-import { ILightUser } from '../requests/responses/user'
+import { ILightUser, IUserSummary } from '../requests/responses/user'
 import { IThesis, ThesisState } from '../requests/responses/thesis'
 import { ApplicationState, IApplication } from '../requests/responses/application'
 import { GLOBAL_CONFIG } from '../config/global'
@@ -35,7 +35,7 @@ interface IFormatUserOptions {
   withUniversityId: boolean
 }
 
-export function formatUser(user: ILightUser, options: Partial<IFormatUserOptions> = {}) {
+export function formatUser(user: IUserSummary, options: Partial<IFormatUserOptions> = {}) {
   const { withUniversityId } = {
     withUniversityId: false,
     ...options,
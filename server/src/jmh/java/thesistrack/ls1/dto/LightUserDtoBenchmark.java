@@ -0,0 +1,103 @@
+package thesistrack.ls1.dto;
+
+import org.openjdk.jmh.annotations.*;
+import thesistrack.ls1.entity.User;
+import thesistrack.ls1.entity.UserGroup;
+import thesistrack.ls1.entity.key.UserGroupId;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares resolving the avatar from the stored gravatar hash against the previous implementation, which hashed
+ * the email on every call. Run with {@code -PjmhProfilers=gc} to see allocations per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LightUserDtoBenchmark {
+    private static final String EMAIL = "Max.Mustermann@tum.de";
+
+    private User user;
+
+    @Setup
+    public void setup() {
+        user = new User();
+        user.setId(UUID.randomUUID());
+        user.setUniversityId("ab12cde");
+        user.setMatriculationNumber("03712345");
+        user.setFirstName("Max");
+        user.setLastName("Mustermann");
+        user.setEmail(EMAIL);
+        user.setStudyDegree("MASTER");
+        user.setStudyProgram("COMPUTER_SCIENCE");
+        user.setCustomData(Map.of("preferred_language", "en"));
+        user.setJoinedAt(Instant.now());
+        user.setGroups(createGroups(user, "student", "advisor"));
+    }
+
+    @Benchmark
+    public String adjustedAvatarFromStoredHash() {
+        return user.getAdjustedAvatar();
+    }
+
+    @Benchmark
+    public String adjustedAvatarHashingEmail() {
+        return getAdjustedAvatarHashingEmail(user.getAvatar(), EMAIL);
+    }
+
+    @Benchmark
+    public LightUserDto fromUserEntity() {
+        return LightUserDto.fromUserEntity(user);
+    }
+
+    private static String getAdjustedAvatarHashingEmail(String avatar, String email) {
+        if (avatar != null && !avatar.isBlank()) {
+            return avatar;
+        }
+
+        if (email == null) {
+            return null;
+        }
+
+        try {
+            MessageDigest md = MessageDigest.getInstance("MD5");
+
+            byte[] hashInBytes = md.digest(email.trim().toLowerCase().getBytes());
+
+            StringBuilder sb = new StringBuilder();
+
+            for (byte b : hashInBytes) {
+                sb.append(String.format("%02x", b));
+            }
+
+            return "https://www.gravatar.com/avatar/" + sb + "?s=400";
+        } catch (NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+
+    private Set<UserGroup> createGroups(User user, String... groups) {
+        Set<UserGroup> userGroups = new HashSet<>();
+
+        for (String group : groups) {
+            UserGroupId entityId = new UserGroupId();
+            entityId.setUserId(user.getId());
+            entityId.setGroup(group);
+
+            UserGroup entity = new UserGroup();
+            entity.setId(entityId);
+            entity.setUser(user);
+
+            userGroups.add(entity);
+        }
+
+        return userGroups;
+    }
+}
@@ -0,0 +1,60 @@
+package thesistrack.ls1.security;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthConverterBenchmark {
+    private JwtAuthConverter converter;
+    private Jwt jwt;
+    private Jwt jwtWithoutId;
+
+    @Setup
+    public void setup() {
+        JwtAuthConfig config = new JwtAuthConfig();
+        config.setClientId("thesis-track-app");
+
+        converter = new JwtAuthConverter(config);
+        jwt = createJwt(UUID.randomUUID().toString());
+        jwtWithoutId = createJwt(null);
+    }
+
+    @Benchmark
+    public AbstractAuthenticationToken convertCached() {
+        return converter.convert(jwt);
+    }
+
+    @Benchmark
+    public AbstractAuthenticationToken convertUncached() {
+        return converter.convert(jwtWithoutId);
+    }
+
+    private Jwt createJwt(String tokenId) {
+        Jwt.Builder builder = Jwt.withTokenValue("token-" + tokenId)
+                .header("alg", "RS256")
+                .subject("ab12cde")
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(3600))
+                .claim("preferred_username", "ab12cde")
+                .claim("scope", "openid profile email")
+                .claim("resource_access", Map.of(
+                        "thesis-track-app", Map.of("roles", List.of("student", "advisor", "supervisor")),
+                        "account", Map.of("roles", List.of("manage-account", "view-profile"))
+                ));
+
+        if (tokenId != null) {
+            builder.jti(tokenId);
+        }
+
+        return builder.build();
+    }
+}
@@ -0,0 +1,52 @@
+package thesistrack.ls1.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String THESIS_COUNTS = "thesis-counts";
+    public static final String APPLICATION_COUNTS = "application-counts";
+    public static final String TOPIC_COUNTS = "topic-counts";
+    public static final String USER_COUNTS = "user-counts";
+    public static final String THESIS_FACETS = "thesis-facets";
+    public static final String APPLICATION_FACETS = "application-facets";
+    public static final String AUTHENTICATED_USERS = "authenticated-users";
+
+    private static final Duration COUNT_TTL = Duration.ofSeconds(30);
+    private static final long COUNT_MAX_SIZE = 10_000;
+
+    // must not outlive the access token lifespan configured in keycloak
+    private static final Duration AUTHENTICATED_USER_TTL = Duration.ofMinutes(5);
+    private static final long AUTHENTICATED_USER_MAX_SIZE = 10_000;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheNames(List.of());
+
+        for (String cacheName : List.of(THESIS_COUNTS, APPLICATION_COUNTS, TOPIC_COUNTS, USER_COUNTS, THESIS_FACETS, APPLICATION_FACETS)) {
+            cacheManager.registerCustomCache(cacheName, Caffeine.newBuilder()
+                    .expireAfterWrite(COUNT_TTL)
+                    .maximumSize(COUNT_MAX_SIZE)
+                    .recordStats()
+                    .build());
+        }
+
+        cacheManager.registerCustomCache(AUTHENTICATED_USERS, Caffeine.newBuilder()
+                .expireAfterWrite(AUTHENTICATED_USER_TTL)
+                .maximumSize(AUTHENTICATED_USER_MAX_SIZE)
+                .recordStats()
+                .build());
+
+        return cacheManager;
+    }
+}
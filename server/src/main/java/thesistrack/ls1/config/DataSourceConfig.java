@@ -0,0 +1,79 @@
+package thesistrack.ls1.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import thesistrack.ls1.metrics.QueryMetrics;
+
+import javax.sql.DataSource;
+
+/**
+ * Routes methods annotated with {@link ReadFromReplica} to the configured replica and everything else to the primary database.
+ * The physical connection is only fetched on the first statement, after the transaction marked it as read-only.
+ * All statements pass through {@link QueryMetrics} before reaching either pool.
+ * Both pools are beans, so {@code spring.datasource.hikari.*} and {@code thesis-track.datasource.replica.hikari.*}
+ * are bound to them and their pool metrics are registered.
+ */
+@Configuration
+public class DataSourceConfig {
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return createPool("primary", properties.determineUrl(), properties.determineUsername(), properties.determinePassword(), properties);
+    }
+
+    @Bean
+    @ConditionalOnExpression("!'${thesis-track.datasource.replica.url:}'.isBlank()")
+    @ConfigurationProperties("thesis-track.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            @Value("${thesis-track.datasource.replica.url}") String replicaUrl,
+            @Value("${thesis-track.datasource.replica.username}") String replicaUsername,
+            @Value("${thesis-track.datasource.replica.password}") String replicaPassword
+    ) {
+        HikariDataSource replica = createPool("replica", replicaUrl, replicaUsername, replicaPassword, properties);
+        replica.setReadOnly(true);
+
+        return replica;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") HikariDataSource primary,
+            @Qualifier("replicaDataSource") ObjectProvider<HikariDataSource> replicaProvider,
+            QueryMetrics queryMetrics
+    ) {
+        HikariDataSource replica = replicaProvider.getIfAvailable();
+        DataSource target = replica == null ? primary : new ReplicaRoutingDataSource(primary, replica);
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(target);
+
+        return ProxyDataSourceBuilder.create(dataSource)
+                .name("thesis-track")
+                .listener(queryMetrics)
+                .build();
+    }
+
+    private HikariDataSource createPool(String name, String url, String username, String password, DataSourceProperties properties) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+
+        pool.setPoolName(name);
+
+        return pool;
+    }
+}
@@ -0,0 +1,77 @@
+package thesistrack.ls1.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import thesistrack.ls1.entity.Topic;
+import thesistrack.ls1.entity.TopicRole;
+import thesistrack.ls1.entity.User;
+import thesistrack.ls1.entity.UserGroup;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.expiry.EternalExpiryPolicy;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+@Configuration
+public class HibernateCacheConfig {
+    public static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    private static final Duration ENTITY_TTL = Duration.ofMinutes(10);
+    private static final long ENTITY_MAX_SIZE = 10_000;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+
+        // every application context gets its own manager so that regions are never shared between databases
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("thesis-track:" + UUID.randomUUID()),
+                getClass().getClassLoader()
+        );
+
+        List<String> regions = List.of(
+                User.class.getName(),
+                User.class.getName() + ".groups",
+                UserGroup.class.getName(),
+                Topic.class.getName(),
+                Topic.class.getName() + ".roles",
+                TopicRole.class.getName(),
+                QUERY_RESULTS_REGION
+        );
+
+        for (String region : regions) {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(ENTITY_MAX_SIZE));
+            configuration.setExpireAfterWrite(OptionalLong.of(ENTITY_TTL.toNanos()));
+            configuration.setStatisticsEnabled(true);
+
+            cacheManager.createCache(region, configuration);
+        }
+
+        // timestamps must outlive every cached query result, otherwise stale results are considered fresh
+        CaffeineConfiguration<Object, Object> timestampsConfiguration = new CaffeineConfiguration<>();
+        timestampsConfiguration.setMaximumSize(OptionalLong.empty());
+        timestampsConfiguration.setExpireAfterWrite(OptionalLong.empty());
+        timestampsConfiguration.setExpireAfterAccess(OptionalLong.empty());
+        timestampsConfiguration.setExpiryPolicyFactory(EternalExpiryPolicy.factoryOf());
+        timestampsConfiguration.setStatisticsEnabled(true);
+        cacheManager.createCache(UPDATE_TIMESTAMPS_REGION, timestampsConfiguration);
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+}
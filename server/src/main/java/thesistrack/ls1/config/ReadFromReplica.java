@@ -0,0 +1,15 @@
+package thesistrack.ls1.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs the method in a read-only transaction on the read replica if one is configured.
+ * Only use it for reads that tolerate replication lag and whose entities are not modified afterwards.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReadFromReplica {
+}
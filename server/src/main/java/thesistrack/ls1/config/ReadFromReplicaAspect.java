@@ -0,0 +1,75 @@
+package thesistrack.ls1.config;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.UndeclaredThrowableException;
+
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ReadFromReplicaAspect {
+    private final TransactionTemplate transactionTemplate;
+    private final boolean replicaEnabled;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ReadFromReplicaAspect(
+            PlatformTransactionManager transactionManager,
+            @Value("${thesis-track.datasource.replica.url}") String replicaUrl
+    ) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.replicaEnabled = replicaUrl != null && !replicaUrl.isBlank();
+    }
+
+    @Around("@annotation(thesistrack.ls1.config.ReadFromReplica)")
+    public Object readFromReplica(ProceedingJoinPoint joinPoint) throws Throwable {
+        // joining a surrounding transaction has to stay on the connection that transaction already uses
+        if (!replicaEnabled || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return transactionTemplate.execute(status -> proceed(joinPoint));
+        }
+
+        ReplicaRoutingDataSource.setReplicaRead(true);
+
+        try {
+            return transactionTemplate.execute(status -> {
+                // rows read from the replica can lag behind, so they must not end up in the second level cache
+                Session session = entityManager.unwrap(Session.class);
+                CacheMode cacheMode = session.getCacheMode();
+                session.setCacheMode(CacheMode.GET);
+
+                try {
+                    return proceed(joinPoint);
+                } finally {
+                    session.setCacheMode(cacheMode);
+                }
+            });
+        } finally {
+            ReplicaRoutingDataSource.setReplicaRead(false);
+        }
+    }
+
+    private Object proceed(ProceedingJoinPoint joinPoint) {
+        try {
+            return joinPoint.proceed();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+}
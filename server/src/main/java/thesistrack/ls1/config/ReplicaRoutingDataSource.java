@@ -0,0 +1,41 @@
+package thesistrack.ls1.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Hands out replica connections only inside read-only transactions opened by {@link ReadFromReplicaAspect}.
+ * Every other connection, including the ones of Spring Data's default read-only transactions, comes from the primary.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    private static final ThreadLocal<Boolean> replicaRead = new ThreadLocal<>();
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    static boolean isReplicaRead() {
+        return Boolean.TRUE.equals(replicaRead.get());
+    }
+
+    static void setReplicaRead(boolean value) {
+        if (value) {
+            replicaRead.set(true);
+        } else {
+            replicaRead.remove();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return isReplicaRead() && TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? REPLICA : PRIMARY;
+    }
+}
@@ -0,0 +1,7 @@
+package thesistrack.ls1.constants;
+
+public enum PaginationMode {
+    PAGE,
+    SLICE,
+    CURSOR
+}
@@ -2,7 +2,7 @@ package thesistrack.ls1.controller;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -15,13 +15,18 @@ import thesistrack.ls1.constants.ApplicationState;
 import thesistrack.ls1.constants.StringLimits;
 import thesistrack.ls1.controller.payload.*;
 import thesistrack.ls1.dto.ApplicationDto;
+import thesistrack.ls1.dto.ApplicationStateDto;
+import thesistrack.ls1.dto.ApplicationSummaryDto;
+import thesistrack.ls1.dto.FacetsDto;
 import thesistrack.ls1.dto.PaginationDto;
 import thesistrack.ls1.entity.Application;
 import thesistrack.ls1.entity.User;
 import thesistrack.ls1.exception.request.ResourceAlreadyExistsException;
 import thesistrack.ls1.exception.request.ResourceInvalidParametersException;
+import thesistrack.ls1.repository.projection.FacetCount;
 import thesistrack.ls1.service.ApplicationService;
 import thesistrack.ls1.service.AuthenticationService;
+import thesistrack.ls1.utility.CursorHelper;
 import thesistrack.ls1.utility.RequestValidator;
 
 import java.util.List;
@@ -71,20 +76,44 @@ public class ApplicationController {
     public ResponseEntity<PaginationDto<ApplicationDto>> getApplications(
             @RequestParam(required = false) String search,
             @RequestParam(required = false) ApplicationState[] state,
-            @RequestParam(required = false) String[] topic,
+            @RequestParam(required = false) UUID[] topic,
             @RequestParam(required = false) String[] type,
-            @RequestParam(required = false) String[] previous,
+            @RequestParam(required = false) UUID[] previous,
             @RequestParam(required = false, defaultValue = "true") Boolean includeSuggestedTopics,
             @RequestParam(required = false, defaultValue = "false") Boolean fetchAll,
             @RequestParam(required = false, defaultValue = "0") Integer page,
             @RequestParam(required = false, defaultValue = "50") Integer limit,
+            @RequestParam(required = false, defaultValue = "true") Boolean withTotal,
             @RequestParam(required = false, defaultValue = "createdAt") String sortBy,
             @RequestParam(required = false, defaultValue = "desc") String sortOrder,
+            @RequestParam(required = false) String cursor,
             JwtAuthenticationToken jwt
     ) {
         User authenticatedUser = authenticationService.getAuthenticatedUser(jwt);
 
-        Page<Application> applications = applicationService.getAll(
+        if (cursor != null) {
+            Slice<Application> applications = applicationService.getAllAfterCursor(
+                    fetchAll && authenticatedUser.hasAnyGroup("admin", "supervisor", "advisor") ? null : authenticatedUser.getId(),
+                    fetchAll && authenticatedUser.hasAnyGroup("admin", "supervisor", "advisor") ? authenticatedUser.getId() : null,
+                    search,
+                    state,
+                    previous,
+                    topic,
+                    type,
+                    includeSuggestedTopics,
+                    cursor,
+                    limit,
+                    sortBy,
+                    sortOrder
+            );
+
+            return ResponseEntity.ok(PaginationDto.fromCursorSlice(
+                    applications.map(application -> ApplicationDto.fromApplicationEntity(application, application.hasManagementAccess(authenticatedUser))),
+                    CursorHelper.nextCursor(applications, Application::getCreatedAt, Application::getId)
+            ));
+        }
+
+        Slice<Application> applications = applicationService.getAll(
                 fetchAll && authenticatedUser.hasAnyGroup("admin", "supervisor", "advisor") ? null : authenticatedUser.getId(),
                 fetchAll && authenticatedUser.hasAnyGroup("admin", "supervisor", "advisor") ? authenticatedUser.getId() : null,
                 search,
@@ -95,15 +124,80 @@ public class ApplicationController {
                 includeSuggestedTopics,
                 page,
                 limit,
+                withTotal,
                 sortBy,
                 sortOrder
         );
 
-        return ResponseEntity.ok(PaginationDto.fromSpringPage(
+        return ResponseEntity.ok(PaginationDto.fromSpringSlice(
                 applications.map(application -> ApplicationDto.fromApplicationEntity(application, application.hasManagementAccess(authenticatedUser)))
         ));
     }
 
+    @GetMapping("/summaries")
+    public ResponseEntity<PaginationDto<ApplicationSummaryDto>> getApplicationSummaries(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) ApplicationState[] state,
+            @RequestParam(required = false) UUID[] topic,
+            @RequestParam(required = false) String[] type,
+            @RequestParam(required = false) UUID[] previous,
+            @RequestParam(required = false, defaultValue = "true") Boolean includeSuggestedTopics,
+            @RequestParam(required = false, defaultValue = "false") Boolean fetchAll,
+            @RequestParam(required = false, defaultValue = "0") Integer page,
+            @RequestParam(required = false, defaultValue = "50") Integer limit,
+            @RequestParam(required = false, defaultValue = "true") Boolean withTotal,
+            @RequestParam(required = false, defaultValue = "createdAt") String sortBy,
+            @RequestParam(required = false, defaultValue = "desc") String sortOrder,
+            JwtAuthenticationToken jwt
+    ) {
+        User authenticatedUser = authenticationService.getAuthenticatedUser(jwt);
+
+        Slice<ApplicationSummaryDto> applications = applicationService.getAllSummaries(
+                fetchAll && authenticatedUser.hasAnyGroup("admin", "supervisor", "advisor") ? null : authenticatedUser.getId(),
+                fetchAll && authenticatedUser.hasAnyGroup("admin", "supervisor", "advisor") ? authenticatedUser.getId() : null,
+                search,
+                state,
+                previous,
+                topic,
+                type,
+                includeSuggestedTopics,
+                page,
+                limit,
+                withTotal,
+                sortBy,
+                sortOrder
+        );
+
+        return ResponseEntity.ok(PaginationDto.fromSpringSlice(applications));
+    }
+
+    @GetMapping("/facets")
+    public ResponseEntity<FacetsDto> getApplicationFacets(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) ApplicationState[] state,
+            @RequestParam(required = false) UUID[] topic,
+            @RequestParam(required = false) String[] type,
+            @RequestParam(required = false) UUID[] previous,
+            @RequestParam(required = false, defaultValue = "true") Boolean includeSuggestedTopics,
+            @RequestParam(required = false, defaultValue = "false") Boolean fetchAll,
+            JwtAuthenticationToken jwt
+    ) {
+        User authenticatedUser = authenticationService.getAuthenticatedUser(jwt);
+
+        List<FacetCount> facets = applicationService.getFacets(
+                fetchAll && authenticatedUser.hasAnyGroup("admin", "supervisor", "advisor") ? null : authenticatedUser.getId(),
+                fetchAll && authenticatedUser.hasAnyGroup("admin", "supervisor", "advisor") ? authenticatedUser.getId() : null,
+                search,
+                state,
+                previous,
+                topic,
+                type,
+                includeSuggestedTopics
+        );
+
+        return ResponseEntity.ok(FacetsDto.fromFacetCounts(facets));
+    }
+
     @GetMapping("/{applicationId}")
     public ResponseEntity<ApplicationDto> getApplication(@PathVariable UUID applicationId, JwtAuthenticationToken jwt) {
         User authenticatedUser = authenticationService.getAuthenticatedUser(jwt);
@@ -223,7 +317,7 @@ public class ApplicationController {
     }
 
     @PutMapping("/{applicationId}/reject")
-    public ResponseEntity<List<ApplicationDto>> rejectApplication(
+    public ResponseEntity<List<ApplicationStateDto>> rejectApplication(
             @PathVariable UUID applicationId,
             @RequestBody RejectApplicationPayload payload,
             JwtAuthenticationToken jwt
@@ -235,15 +329,11 @@ public class ApplicationController {
             throw new AccessDeniedException("You do not have access to reject this application");
         }
 
-        List<Application> applications = applicationService.reject(
+        return ResponseEntity.ok(applicationService.reject(
                 authenticatedUser,
                 application,
                 RequestValidator.validateNotNull(payload.reason()),
                 RequestValidator.validateNotNull(payload.notifyUser())
-        );
-
-        return ResponseEntity.ok(
-                applications.stream().map(item -> ApplicationDto.fromApplicationEntity(item, item.hasManagementAccess(authenticatedUser))).toList()
-        );
+        ));
     }
 }
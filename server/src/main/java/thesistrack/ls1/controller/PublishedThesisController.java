@@ -3,7 +3,7 @@ package thesistrack.ls1.controller;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -34,10 +34,11 @@ public class PublishedThesisController {
     public ResponseEntity<PaginationDto<PublishedThesisDto>> getTheses(
             @RequestParam(required = false, defaultValue = "0") Integer page,
             @RequestParam(required = false, defaultValue = "50") Integer limit,
+            @RequestParam(required = false, defaultValue = "true") Boolean withTotal,
             @RequestParam(required = false, defaultValue = "endDate") String sortBy,
             @RequestParam(required = false, defaultValue = "desc") String sortOrder
     ) {
-        Page<Thesis> theses = thesisService.getAll(
+        Slice<Thesis> theses = thesisService.getAll(
                 null,
                 Set.of(ThesisVisibility.PUBLIC),
                 null,
@@ -45,11 +46,12 @@ public class PublishedThesisController {
                 null,
                 page,
                 limit,
+                withTotal,
                 sortBy,
                 sortOrder
         );
 
-        return ResponseEntity.ok(PaginationDto.fromSpringPage(theses.map(PublishedThesisDto::fromThesisEntity)));
+        return ResponseEntity.ok(PaginationDto.fromSpringSlice(theses.map(PublishedThesisDto::fromThesisEntity)));
     }
 
     @GetMapping("/{thesisId}/thesis")
@@ -3,7 +3,7 @@ package thesistrack.ls1.controller;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -15,16 +15,22 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import thesistrack.ls1.constants.*;
 import thesistrack.ls1.controller.payload.*;
+import thesistrack.ls1.dto.FacetsDto;
 import thesistrack.ls1.dto.PaginationDto;
 import thesistrack.ls1.dto.ThesisCommentDto;
 import thesistrack.ls1.dto.ThesisDto;
+import thesistrack.ls1.dto.ThesisSuggestionDto;
+import thesistrack.ls1.dto.ThesisSummaryDto;
 import thesistrack.ls1.entity.*;
+import thesistrack.ls1.repository.projection.FacetCount;
 import thesistrack.ls1.service.AuthenticationService;
 import thesistrack.ls1.service.ThesisCommentService;
 import thesistrack.ls1.service.ThesisPresentationService;
 import thesistrack.ls1.service.ThesisService;
+import thesistrack.ls1.utility.CursorHelper;
 import thesistrack.ls1.utility.RequestValidator;
 
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
@@ -54,51 +60,120 @@ public class ThesisController {
             @RequestParam(required = false, defaultValue = "false") Boolean fetchAll,
             @RequestParam(required = false, defaultValue = "0") Integer page,
             @RequestParam(required = false, defaultValue = "50") Integer limit,
+            @RequestParam(required = false, defaultValue = "true") Boolean withTotal,
             @RequestParam(required = false, defaultValue = "createdAt") String sortBy,
             @RequestParam(required = false, defaultValue = "desc") String sortOrder,
+            @RequestParam(required = false) String cursor,
             JwtAuthenticationToken jwt
     ) {
         User authenticatedUser = authenticationService.getAuthenticatedUser(jwt);
 
-        UUID userId = authenticatedUser.getId();
-        Set<ThesisVisibility> visibilities = Set.of(
-                ThesisVisibility.PUBLIC,
-                ThesisVisibility.STUDENT,
-                ThesisVisibility.INTERNAL,
-                ThesisVisibility.PRIVATE
+        UUID userId = fetchAll ? null : authenticatedUser.getId();
+        Set<ThesisVisibility> visibilities = getVisibilities(authenticatedUser, fetchAll);
+
+        if (cursor != null) {
+            Slice<Thesis> theses = thesisService.getAllAfterCursor(
+                    userId,
+                    visibilities,
+                    search,
+                    state,
+                    type,
+                    cursor,
+                    limit,
+                    sortBy,
+                    sortOrder
+            );
+
+            return ResponseEntity.ok(PaginationDto.fromCursorSlice(
+                    theses.map(thesis -> ThesisDto.fromThesisEntity(thesis, thesis.hasAdvisorAccess(authenticatedUser), thesis.hasStudentAccess(authenticatedUser))),
+                    CursorHelper.nextCursor(theses, Thesis::getCreatedAt, Thesis::getId)
+            ));
+        }
+
+        Slice<Thesis> theses = thesisService.getAll(
+                userId,
+                visibilities,
+                search,
+                state,
+                type,
+                page,
+                limit,
+                withTotal,
+                sortBy,
+                sortOrder
         );
 
-        if (fetchAll) {
-            userId = null;
+        return ResponseEntity.ok(PaginationDto.fromSpringSlice(
+                theses.map(thesis -> ThesisDto.fromThesisEntity(thesis, thesis.hasAdvisorAccess(authenticatedUser), thesis.hasStudentAccess(authenticatedUser)))
+        ));
+    }
 
-            if (authenticatedUser.hasAnyGroup("admin")) {
-                visibilities = null;
-            } else if (authenticatedUser.hasAnyGroup("advisor", "supervisor")) {
-                visibilities = Set.of(ThesisVisibility.PUBLIC, ThesisVisibility.STUDENT, ThesisVisibility.INTERNAL);
-            } else if (authenticatedUser.hasAnyGroup("student")) {
-                visibilities = Set.of(ThesisVisibility.PUBLIC, ThesisVisibility.STUDENT);
-            } else {
-                visibilities = Set.of(ThesisVisibility.PUBLIC);
-            }
-        }
+    @GetMapping("/summaries")
+    public ResponseEntity<PaginationDto<ThesisSummaryDto>> getThesisSummaries(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) ThesisState[] state,
+            @RequestParam(required = false) String[] type,
+            @RequestParam(required = false, defaultValue = "false") Boolean fetchAll,
+            @RequestParam(required = false, defaultValue = "0") Integer page,
+            @RequestParam(required = false, defaultValue = "50") Integer limit,
+            @RequestParam(required = false, defaultValue = "true") Boolean withTotal,
+            @RequestParam(required = false, defaultValue = "createdAt") String sortBy,
+            @RequestParam(required = false, defaultValue = "desc") String sortOrder,
+            JwtAuthenticationToken jwt
+    ) {
+        User authenticatedUser = authenticationService.getAuthenticatedUser(jwt);
 
-        Page<Thesis> theses = thesisService.getAll(
-                userId,
-                visibilities,
+        Slice<ThesisSummaryDto> theses = thesisService.getAllSummaries(
+                fetchAll ? null : authenticatedUser.getId(),
+                getVisibilities(authenticatedUser, fetchAll),
                 search,
                 state,
                 type,
                 page,
                 limit,
+                withTotal,
                 sortBy,
                 sortOrder
         );
 
-        return ResponseEntity.ok(PaginationDto.fromSpringPage(
-                theses.map(thesis -> ThesisDto.fromThesisEntity(thesis, thesis.hasAdvisorAccess(authenticatedUser), thesis.hasStudentAccess(authenticatedUser)))
+        return ResponseEntity.ok(PaginationDto.fromSpringSlice(theses));
+    }
+
+    @GetMapping("/suggestions")
+    public ResponseEntity<List<ThesisSuggestionDto>> getThesisSuggestions(
+            @RequestParam(required = false) String searchQuery,
+            JwtAuthenticationToken jwt
+    ) {
+        User authenticatedUser = authenticationService.getAuthenticatedUser(jwt);
+
+        return ResponseEntity.ok(thesisService.getSuggestions(
+                authenticatedUser.getId(),
+                getVisibilities(authenticatedUser, true),
+                searchQuery
         ));
     }
 
+    @GetMapping("/facets")
+    public ResponseEntity<FacetsDto> getThesisFacets(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) ThesisState[] state,
+            @RequestParam(required = false) String[] type,
+            @RequestParam(required = false, defaultValue = "false") Boolean fetchAll,
+            JwtAuthenticationToken jwt
+    ) {
+        User authenticatedUser = authenticationService.getAuthenticatedUser(jwt);
+
+        List<FacetCount> facets = thesisService.getFacets(
+                fetchAll ? null : authenticatedUser.getId(),
+                getVisibilities(authenticatedUser, fetchAll),
+                search,
+                state,
+                type
+        );
+
+        return ResponseEntity.ok(FacetsDto.fromFacetCounts(facets));
+    }
+
     @GetMapping("/{thesisId}")
     public ResponseEntity<ThesisDto> getThesis(@PathVariable UUID thesisId, JwtAuthenticationToken jwt) {
         User authenticatedUser = authenticationService.getAuthenticatedUser(jwt);
@@ -563,10 +638,11 @@ public class ThesisController {
             @RequestParam(required = false, defaultValue = "THESIS") ThesisCommentType commentType,
             @RequestParam(required = false, defaultValue = "0") Integer page,
             @RequestParam(required = false, defaultValue = "50") Integer limit,
+            @RequestParam(required = false, defaultValue = "true") Boolean withTotal,
             JwtAuthenticationToken jwt
     ) {
         User authenticatedUser = authenticationService.getAuthenticatedUser(jwt);
-        Thesis thesis = thesisService.findById(thesisId);
+        Thesis thesis = thesisService.findByIdForAccessCheck(thesisId);
 
         if (commentType == ThesisCommentType.ADVISOR && !thesis.hasAdvisorAccess(authenticatedUser)) {
             throw new AccessDeniedException("You need to be an advisor of this thesis to view advisor comments");
@@ -576,9 +652,9 @@ public class ThesisController {
             throw new AccessDeniedException("You do not have the required permissions to view comments on this thesis");
         }
 
-        Page<ThesisComment> comments = thesisCommentService.getComments(thesis, commentType, page, limit);
+        Slice<ThesisComment> comments = thesisCommentService.getComments(thesis, commentType, page, limit, withTotal);
 
-        return ResponseEntity.ok(PaginationDto.fromSpringPage(comments.map(ThesisCommentDto::fromCommentEntity)));
+        return ResponseEntity.ok(PaginationDto.fromSpringSlice(comments.map(ThesisCommentDto::fromCommentEntity)));
     }
 
     @PostMapping("/{thesisId}/comments")
@@ -589,7 +665,7 @@ public class ThesisController {
             JwtAuthenticationToken jwt
     ) {
         User authenticatedUser = authenticationService.getAuthenticatedUser(jwt);
-        Thesis thesis = thesisService.findById(thesisId);
+        Thesis thesis = thesisService.findByIdForAccessCheck(thesisId);
 
         if (payload.commentType() == ThesisCommentType.ADVISOR && !thesis.hasAdvisorAccess(authenticatedUser)) {
             throw new AccessDeniedException("You need to be an advisor of this thesis to add an advisor comment");
@@ -738,4 +814,29 @@ public class ThesisController {
 
         return ResponseEntity.ok(ThesisDto.fromThesisEntity(thesis, thesis.hasAdvisorAccess(authenticatedUser), thesis.hasStudentAccess(authenticatedUser)));
     }
+
+    private Set<ThesisVisibility> getVisibilities(User authenticatedUser, boolean fetchAll) {
+        if (!fetchAll) {
+            return Set.of(
+                    ThesisVisibility.PUBLIC,
+                    ThesisVisibility.STUDENT,
+                    ThesisVisibility.INTERNAL,
+                    ThesisVisibility.PRIVATE
+            );
+        }
+
+        if (authenticatedUser.hasAnyGroup("admin")) {
+            return null;
+        }
+
+        if (authenticatedUser.hasAnyGroup("advisor", "supervisor")) {
+            return Set.of(ThesisVisibility.PUBLIC, ThesisVisibility.STUDENT, ThesisVisibility.INTERNAL);
+        }
+
+        if (authenticatedUser.hasAnyGroup("student")) {
+            return Set.of(ThesisVisibility.PUBLIC, ThesisVisibility.STUDENT);
+        }
+
+        return Set.of(ThesisVisibility.PUBLIC);
+    }
 }
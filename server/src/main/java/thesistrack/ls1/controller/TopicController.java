@@ -2,7 +2,7 @@ package thesistrack.ls1.controller;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
@@ -12,6 +12,7 @@ import thesistrack.ls1.controller.payload.CloseTopicPayload;
 import thesistrack.ls1.controller.payload.ReplaceTopicPayload;
 import thesistrack.ls1.dto.PaginationDto;
 import thesistrack.ls1.dto.TopicDto;
+import thesistrack.ls1.dto.TopicSummaryDto;
 import thesistrack.ls1.entity.Topic;
 import thesistrack.ls1.entity.User;
 import thesistrack.ls1.service.ApplicationService;
@@ -43,20 +44,47 @@ public class TopicController {
             @RequestParam(required = false, defaultValue = "false") Boolean includeClosed,
             @RequestParam(required = false, defaultValue = "0") Integer page,
             @RequestParam(required = false, defaultValue = "50") Integer limit,
+            @RequestParam(required = false, defaultValue = "true") Boolean withTotal,
             @RequestParam(required = false, defaultValue = "createdAt") String sortBy,
             @RequestParam(required = false, defaultValue = "desc") String sortOrder
     ) {
-        Page<Topic> topics = topicService.getAll(
+        Slice<Topic> topics = topicService.getAll(
                 type,
                 includeClosed,
                 search,
                 page,
                 limit,
+                withTotal,
                 sortBy,
                 sortOrder
         );
 
-        return ResponseEntity.ok(PaginationDto.fromSpringPage(topics.map(TopicDto::fromTopicEntity)));
+        return ResponseEntity.ok(PaginationDto.fromSpringSlice(topics.map(TopicDto::fromTopicEntity)));
+    }
+
+    @GetMapping("/summaries")
+    public ResponseEntity<PaginationDto<TopicSummaryDto>> getTopicSummaries(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false, defaultValue = "") String[] type,
+            @RequestParam(required = false, defaultValue = "false") Boolean includeClosed,
+            @RequestParam(required = false, defaultValue = "0") Integer page,
+            @RequestParam(required = false, defaultValue = "50") Integer limit,
+            @RequestParam(required = false, defaultValue = "true") Boolean withTotal,
+            @RequestParam(required = false, defaultValue = "createdAt") String sortBy,
+            @RequestParam(required = false, defaultValue = "desc") String sortOrder
+    ) {
+        Slice<TopicSummaryDto> topics = topicService.getAllSummaries(
+                type,
+                includeClosed,
+                search,
+                page,
+                limit,
+                withTotal,
+                sortBy,
+                sortOrder
+        );
+
+        return ResponseEntity.ok(PaginationDto.fromSpringSlice(topics));
     }
 
     @GetMapping("/{topicId}")
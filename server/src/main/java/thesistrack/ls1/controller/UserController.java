@@ -3,7 +3,7 @@ package thesistrack.ls1.controller;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -13,10 +13,13 @@ import org.springframework.security.oauth2.server.resource.authentication.JwtAut
 import org.springframework.web.bind.annotation.*;
 import thesistrack.ls1.dto.LightUserDto;
 import thesistrack.ls1.dto.PaginationDto;
+import thesistrack.ls1.dto.UserSuggestionDto;
 import thesistrack.ls1.entity.User;
 import thesistrack.ls1.service.AuthenticationService;
 import thesistrack.ls1.service.UserService;
+import thesistrack.ls1.utility.CursorHelper;
 
+import java.util.List;
 import java.util.UUID;
 
 @Slf4j
@@ -39,12 +42,32 @@ public class UserController {
             @RequestParam(required = false) String[] groups,
             @RequestParam(required = false, defaultValue = "0") Integer page,
             @RequestParam(required = false, defaultValue = "50") Integer limit,
+            @RequestParam(required = false, defaultValue = "true") Boolean withTotal,
             @RequestParam(required = false, defaultValue = "joinedAt") String sortBy,
-            @RequestParam(required = false, defaultValue = "desc") String sortOrder
+            @RequestParam(required = false, defaultValue = "desc") String sortOrder,
+            @RequestParam(required = false) String cursor
     ) {
-        Page<User> users = userService.getAll(searchQuery, groups, page, limit, sortBy, sortOrder);
+        if (cursor != null) {
+            Slice<User> users = userService.getAllAfterCursor(searchQuery, groups, cursor, limit, sortBy, sortOrder);
 
-        return ResponseEntity.ok(PaginationDto.fromSpringPage(users.map(LightUserDto::fromUserEntity)));
+            return ResponseEntity.ok(PaginationDto.fromCursorSlice(
+                    users.map(LightUserDto::fromUserEntity),
+                    CursorHelper.nextCursor(users, User::getJoinedAt, User::getId)
+            ));
+        }
+
+        Slice<User> users = userService.getAll(searchQuery, groups, page, limit, withTotal, sortBy, sortOrder);
+
+        return ResponseEntity.ok(PaginationDto.fromSpringSlice(users.map(LightUserDto::fromUserEntity)));
+    }
+
+    @GetMapping("/suggestions")
+    @PreAuthorize("hasAnyRole('admin', 'advisor', 'supervisor')")
+    public ResponseEntity<List<UserSuggestionDto>> getUserSuggestions(
+            @RequestParam(required = false) String searchQuery,
+            @RequestParam(required = false) String[] groups
+    ) {
+        return ResponseEntity.ok(userService.getSuggestions(searchQuery, groups));
     }
 
     @GetMapping("/{userId}/examination-report")
@@ -0,0 +1,14 @@
+package thesistrack.ls1.dto;
+
+import thesistrack.ls1.constants.ApplicationRejectReason;
+import thesistrack.ls1.constants.ApplicationState;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ApplicationStateDto(
+        UUID applicationId,
+        ApplicationState state,
+        ApplicationRejectReason rejectReason,
+        Instant reviewedAt
+) {}
@@ -0,0 +1,35 @@
+package thesistrack.ls1.dto;
+
+import thesistrack.ls1.constants.ApplicationState;
+import thesistrack.ls1.repository.projection.ApplicationSummaryRow;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ApplicationSummaryDto(
+        UUID applicationId,
+        ApplicationState state,
+        String thesisTitle,
+        String thesisType,
+        Instant desiredStartDate,
+        Instant createdAt,
+        Instant reviewedAt,
+        UserSummaryDto user,
+        UUID topicId,
+        String topicTitle
+) {
+    public static ApplicationSummaryDto fromSummaryRow(ApplicationSummaryRow row) {
+        return new ApplicationSummaryDto(
+                row.applicationId(),
+                row.state(),
+                row.topicId() != null ? row.topicTitle() : row.thesisTitle(),
+                row.thesisType(),
+                row.desiredStartDate(),
+                row.createdAt(),
+                row.reviewedAt(),
+                new UserSummaryDto(row.userId(), row.universityId(), row.firstName(), row.lastName(), row.avatar(), row.gravatarHash()),
+                row.topicId(),
+                row.topicTitle()
+        );
+    }
+}
@@ -0,0 +1,40 @@
+package thesistrack.ls1.dto;
+
+import thesistrack.ls1.repository.projection.FacetCount;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public record FacetsDto(
+        long total,
+        Map<String, Long> states,
+        Map<String, Long> types,
+        Map<String, Long> topics
+) {
+    public static FacetsDto fromFacetCounts(List<FacetCount> facetCounts) {
+        long total = 0;
+        Map<String, Long> states = new TreeMap<>();
+        Map<String, Long> types = new TreeMap<>();
+        Map<String, Long> topics = new TreeMap<>();
+
+        for (FacetCount facetCount : facetCounts) {
+            if (facetCount.getFacet().equals("TOTAL")) {
+                total = facetCount.getCount();
+                continue;
+            }
+
+            if (facetCount.getValue() == null) {
+                continue;
+            }
+
+            switch (facetCount.getFacet()) {
+                case "STATE" -> states.put(facetCount.getValue(), facetCount.getCount());
+                case "TYPE" -> types.put(facetCount.getValue(), facetCount.getCount());
+                case "TOPIC" -> topics.put(facetCount.getValue(), facetCount.getCount());
+            }
+        }
+
+        return new FacetsDto(total, states, types, topics);
+    }
+}
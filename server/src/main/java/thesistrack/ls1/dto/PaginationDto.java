@@ -1,6 +1,8 @@
 package thesistrack.ls1.dto;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import thesistrack.ls1.constants.PaginationMode;
 
 import java.util.List;
 
@@ -8,9 +10,11 @@ public record PaginationDto<T> (
         List<T> content,
         int pageNumber,
         int pageSize,
-        long totalElements,
-        int totalPages,
-        boolean last
+        Long totalElements,
+        Integer totalPages,
+        boolean last,
+        PaginationMode mode,
+        String nextCursor
 ) {
     public static <E> PaginationDto<E> fromSpringPage(Page<E> page) {
         if (page == null) {
@@ -23,7 +27,47 @@ public record PaginationDto<T> (
             page.getSize(),
             page.getTotalElements(),
             page.getTotalPages(),
-            page.isLast()
+            page.isLast(),
+            PaginationMode.PAGE,
+            null
         );
     }
-}
\ No newline at end of file
+
+    public static <E> PaginationDto<E> fromSpringSlice(Slice<E> slice) {
+        if (slice instanceof Page<E> page) {
+            return fromSpringPage(page);
+        }
+
+        if (slice == null) {
+            return null;
+        }
+
+        return new PaginationDto<E>(
+            slice.getContent(),
+            slice.getNumber(),
+            slice.getSize(),
+            null,
+            null,
+            slice.isLast(),
+            PaginationMode.SLICE,
+            null
+        );
+    }
+
+    public static <E> PaginationDto<E> fromCursorSlice(Slice<E> slice, String nextCursor) {
+        if (slice == null) {
+            return null;
+        }
+
+        return new PaginationDto<E>(
+            slice.getContent(),
+            slice.getNumber(),
+            slice.getSize(),
+            null,
+            null,
+            slice.isLast(),
+            PaginationMode.CURSOR,
+            nextCursor
+        );
+    }
+}
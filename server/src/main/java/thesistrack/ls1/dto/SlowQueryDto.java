@@ -0,0 +1,8 @@
+package thesistrack.ls1.dto;
+
+public record SlowQueryDto(
+        String query,
+        long executions,
+        long totalTimeMillis,
+        long maxTimeMillis
+) {}
@@ -0,0 +1,10 @@
+package thesistrack.ls1.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ThesisSuggestionDto(
+        UUID thesisId,
+        String title,
+        List<String> students
+) { }
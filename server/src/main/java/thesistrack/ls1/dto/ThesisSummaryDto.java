@@ -0,0 +1,51 @@
+package thesistrack.ls1.dto;
+
+import thesistrack.ls1.constants.ThesisRoleName;
+import thesistrack.ls1.constants.ThesisState;
+import thesistrack.ls1.constants.ThesisVisibility;
+import thesistrack.ls1.repository.projection.RoleMember;
+import thesistrack.ls1.repository.projection.ThesisSummaryRow;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public record ThesisSummaryDto(
+        UUID thesisId,
+        String title,
+        String type,
+        String language,
+        ThesisVisibility visibility,
+        ThesisState state,
+        Instant startDate,
+        Instant endDate,
+        Instant createdAt,
+
+        List<UserSummaryDto> students,
+        List<UserSummaryDto> advisors,
+        List<UserSummaryDto> supervisors
+) {
+    public static ThesisSummaryDto fromSummaryRow(ThesisSummaryRow row, List<RoleMember> members) {
+        return new ThesisSummaryDto(
+                row.thesisId(),
+                row.title(),
+                row.type(),
+                row.language(),
+                row.visibility(),
+                row.state(),
+                row.startDate(),
+                row.endDate(),
+                row.createdAt(),
+                getMembers(members, ThesisRoleName.STUDENT),
+                getMembers(members, ThesisRoleName.ADVISOR),
+                getMembers(members, ThesisRoleName.SUPERVISOR)
+        );
+    }
+
+    private static List<UserSummaryDto> getMembers(List<RoleMember> members, ThesisRoleName role) {
+        return members.stream()
+                .filter(member -> member.role() == role)
+                .map(UserSummaryDto::fromRoleMember)
+                .toList();
+    }
+}
@@ -0,0 +1,39 @@
+package thesistrack.ls1.dto;
+
+import thesistrack.ls1.constants.ThesisRoleName;
+import thesistrack.ls1.repository.projection.RoleMember;
+import thesistrack.ls1.repository.projection.TopicSummaryRow;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public record TopicSummaryDto(
+        UUID topicId,
+        String title,
+        Set<String> thesisTypes,
+        Instant closedAt,
+        Instant createdAt,
+        List<UserSummaryDto> supervisors,
+        List<UserSummaryDto> advisors
+) {
+    public static TopicSummaryDto fromSummaryRow(TopicSummaryRow row, List<RoleMember> members) {
+        return new TopicSummaryDto(
+                row.topicId(),
+                row.title(),
+                row.thesisTypes(),
+                row.closedAt(),
+                row.createdAt(),
+                getMembers(members, ThesisRoleName.SUPERVISOR),
+                getMembers(members, ThesisRoleName.ADVISOR)
+        );
+    }
+
+    private static List<UserSummaryDto> getMembers(List<RoleMember> members, ThesisRoleName role) {
+        return members.stream()
+                .filter(member -> member.role() == role)
+                .map(UserSummaryDto::fromRoleMember)
+                .toList();
+    }
+}
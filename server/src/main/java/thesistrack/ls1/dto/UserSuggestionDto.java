@@ -0,0 +1,24 @@
+package thesistrack.ls1.dto;
+
+import thesistrack.ls1.entity.User;
+import thesistrack.ls1.repository.projection.UserSuggestionRow;
+
+import java.util.UUID;
+
+public record UserSuggestionDto(
+        UUID userId,
+        String universityId,
+        String firstName,
+        String lastName,
+        String avatar
+) {
+    public static UserSuggestionDto fromSuggestionRow(UserSuggestionRow row) {
+        return new UserSuggestionDto(
+                row.userId(),
+                row.universityId(),
+                row.firstName(),
+                row.lastName(),
+                User.getAdjustedAvatar(row.avatar(), row.gravatarHash())
+        );
+    }
+}
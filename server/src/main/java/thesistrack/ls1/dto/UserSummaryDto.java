@@ -0,0 +1,29 @@
+package thesistrack.ls1.dto;
+
+import thesistrack.ls1.entity.User;
+import thesistrack.ls1.repository.projection.RoleMember;
+
+import java.util.UUID;
+
+public record UserSummaryDto(
+        UUID userId,
+        String universityId,
+        String firstName,
+        String lastName,
+        String avatar
+) {
+    public UserSummaryDto(UUID userId, String universityId, String firstName, String lastName, String avatar, String gravatarHash) {
+        this(userId, universityId, firstName, lastName, User.getAdjustedAvatar(avatar, gravatarHash));
+    }
+
+    public static UserSummaryDto fromRoleMember(RoleMember member) {
+        return new UserSummaryDto(
+                member.userId(),
+                member.universityId(),
+                member.firstName(),
+                member.lastName(),
+                member.avatar(),
+                member.gravatarHash()
+        );
+    }
+}
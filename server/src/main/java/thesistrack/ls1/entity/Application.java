@@ -7,6 +7,7 @@ import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
 import thesistrack.ls1.constants.ApplicationRejectReason;
 import thesistrack.ls1.constants.ApplicationState;
+import thesistrack.ls1.entity.generator.GeneratedUuidV7;
 
 import java.time.Instant;
 import java.util.ArrayList;
@@ -18,9 +19,17 @@ import java.util.UUID;
 @Setter
 @Entity
 @Table(name = "applications")
+@NamedEntityGraph(
+        name = "Application.detail",
+        attributeNodes = {
+                @NamedAttributeNode("user"),
+                @NamedAttributeNode("topic"),
+                @NamedAttributeNode("reviewers")
+        }
+)
 public class Application {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     @Column(name = "application_id", nullable = false)
     private UUID id;
 
@@ -68,7 +77,7 @@ public class Application {
     @Column(name = "reviewed_at")
     private Instant reviewedAt;
 
-    @OneToMany(mappedBy = "application", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "application", fetch = FetchType.LAZY)
     @OrderBy("reviewedAt ASC")
     private List<ApplicationReviewer> reviewers = new ArrayList<>();
 
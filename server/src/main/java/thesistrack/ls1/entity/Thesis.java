@@ -5,6 +5,8 @@ import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 import thesistrack.ls1.constants.ThesisFeedbackType;
@@ -12,6 +14,7 @@ import thesistrack.ls1.constants.ThesisRoleName;
 import thesistrack.ls1.constants.ThesisState;
 import thesistrack.ls1.constants.ThesisVisibility;
 import thesistrack.ls1.dto.LightUserDto;
+import thesistrack.ls1.entity.generator.GeneratedUuidV7;
 import thesistrack.ls1.entity.jsonb.ThesisMetadata;
 
 import java.time.Instant;
@@ -21,9 +24,38 @@ import java.util.*;
 @Setter
 @Entity
 @Table(name = "theses")
+@NamedEntityGraph(
+        name = "Thesis.accessCheck",
+        attributeNodes = @NamedAttributeNode("roles")
+)
+@NamedEntityGraph(
+        name = "Thesis.listRow",
+        attributeNodes = @NamedAttributeNode(value = "roles", subgraph = "roles"),
+        subgraphs = @NamedSubgraph(name = "roles", attributeNodes = @NamedAttributeNode("user"))
+)
+@NamedEntityGraph(
+        name = "Thesis.detail",
+        attributeNodes = {
+                @NamedAttributeNode(value = "roles", subgraph = "roles"),
+                @NamedAttributeNode("states")
+        },
+        subgraphs = @NamedSubgraph(name = "roles", attributeNodes = @NamedAttributeNode("user"))
+)
+@NamedEntityGraph(
+        name = "Thesis.mail",
+        attributeNodes = @NamedAttributeNode(value = "roles", subgraph = "roles"),
+        subgraphs = {
+                @NamedSubgraph(name = "roles", attributeNodes = @NamedAttributeNode(value = "user", subgraph = "user")),
+                @NamedSubgraph(name = "user", attributeNodes = @NamedAttributeNode("groups"))
+        }
+)
+@NamedEntityGraph(
+        name = "Thesis.dashboardTask",
+        attributeNodes = @NamedAttributeNode("presentations")
+)
 public class Thesis {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     @Column(name = "thesis_id", nullable = false)
     private UUID id;
 
@@ -87,31 +119,37 @@ public class Thesis {
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
 
-    @OneToMany(mappedBy = "thesis", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "thesis", fetch = FetchType.LAZY)
     @OrderBy("position ASC")
     private List<ThesisRole> roles = new ArrayList<>();
 
-    @OneToMany(mappedBy = "thesis", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "thesis", fetch = FetchType.LAZY)
+    @Fetch(FetchMode.SUBSELECT)
     @OrderBy("createdAt DESC")
     private List<ThesisProposal> proposals = new ArrayList<>();
 
-    @OneToMany(mappedBy = "thesis", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "thesis", fetch = FetchType.LAZY)
+    @Fetch(FetchMode.SUBSELECT)
     @OrderBy("createdAt DESC")
     private List<ThesisAssessment> assessments = new ArrayList<>();
 
-    @OneToMany(mappedBy = "thesis", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "thesis", fetch = FetchType.LAZY)
+    @Fetch(FetchMode.SUBSELECT)
     @OrderBy("scheduledAt ASC")
     private List<ThesisPresentation> presentations = new ArrayList<>();
 
-    @OneToMany(mappedBy = "thesis", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "thesis", fetch = FetchType.LAZY)
+    @Fetch(FetchMode.SUBSELECT)
     @OrderBy("requestedAt ASC")
     private List<ThesisFeedback> feedback = new ArrayList<>();
 
-    @OneToMany(mappedBy = "thesis", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "thesis", fetch = FetchType.LAZY)
+    @Fetch(FetchMode.SUBSELECT)
     @OrderBy("uploadedAt DESC")
     private List<ThesisFile> files = new ArrayList<>();
 
-    @OneToMany(mappedBy = "thesis", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "thesis", fetch = FetchType.LAZY)
+    @Fetch(FetchMode.SUBSELECT)
     private Set<ThesisStateChange> states = new HashSet<>();
 
     public List<User> getStudents() {
@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
 import thesistrack.ls1.constants.ThesisCommentType;
+import thesistrack.ls1.entity.generator.GeneratedUuidV7;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -16,7 +17,7 @@ import java.util.UUID;
 @Table(name = "thesis_comments")
 public class ThesisComment {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     @Column(name = "comment_id", nullable = false)
     private UUID id;
 
@@ -5,6 +5,7 @@ import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
 import thesistrack.ls1.constants.ThesisFeedbackType;
+import thesistrack.ls1.entity.generator.GeneratedUuidV7;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -15,7 +16,7 @@ import java.util.UUID;
 @Table(name = "thesis_feedback")
 public class ThesisFeedback {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     @Column(name = "feedback_id", nullable = false)
     private UUID id;
 
@@ -8,6 +8,7 @@ import org.hibernate.annotations.CreationTimestamp;
 import thesistrack.ls1.constants.ThesisPresentationState;
 import thesistrack.ls1.constants.ThesisPresentationType;
 import thesistrack.ls1.constants.ThesisPresentationVisibility;
+import thesistrack.ls1.entity.generator.GeneratedUuidV7;
 
 import java.time.Instant;
 import java.util.ArrayList;
@@ -20,7 +21,7 @@ import java.util.UUID;
 @Table(name = "thesis_presentations")
 public class ThesisPresentation {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     @Column(name = "presentation_id", nullable = false)
     private UUID id;
 
@@ -14,7 +14,7 @@ import java.time.Instant;
 @Setter
 @Entity
 @Table(name = "thesis_presentation_invites")
-public class ThesisPresentationInvite {
+public class ThesisPresentationInvite extends AssignedIdEntity<ThesisPresentationInviteId> {
     @EmbeddedId
     private ThesisPresentationInviteId id;
 
@@ -34,4 +34,4 @@ public class ThesisPresentationInvite {
             return null;
         }
     }
-}
\ No newline at end of file
+}
@@ -14,7 +14,7 @@ import java.time.Instant;
 @Setter
 @Entity
 @Table(name = "thesis_roles")
-public class ThesisRole {
+public class ThesisRole extends AssignedIdEntity<ThesisRoleId> {
     @EmbeddedId
     private ThesisRoleId id;
 
@@ -41,5 +41,4 @@ public class ThesisRole {
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "assigned_by", nullable = false)
     private User assignedBy;
-
-}
\ No newline at end of file
+}
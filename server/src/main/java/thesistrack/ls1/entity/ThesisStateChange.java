@@ -12,7 +12,7 @@ import java.time.Instant;
 @Setter
 @Entity
 @Table(name = "thesis_state_changes")
-public class ThesisStateChange {
+public class ThesisStateChange extends AssignedIdEntity<ThesisStateChangeId> {
     @EmbeddedId
     private ThesisStateChangeId id;
 
@@ -24,5 +24,4 @@ public class ThesisStateChange {
     @NotNull
     @Column(name = "changed_at", nullable = false)
     private Instant changedAt;
-
-}
\ No newline at end of file
+}
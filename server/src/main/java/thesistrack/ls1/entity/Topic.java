@@ -4,10 +4,13 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.type.SqlTypes;
+import thesistrack.ls1.entity.generator.GeneratedUuidV7;
 
 import java.time.Instant;
 import java.util.*;
@@ -15,10 +18,17 @@ import java.util.*;
 @Getter
 @Setter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "topics")
+@NamedEntityGraph(
+        name = "Topic.roles",
+        attributeNodes = @NamedAttributeNode(value = "roles", subgraph = "roles"),
+        subgraphs = @NamedSubgraph(name = "roles", attributeNodes = @NamedAttributeNode("user"))
+)
 public class Topic {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     @Column(name = "topic_id", nullable = false)
     private UUID id;
 
@@ -64,7 +74,8 @@ public class Topic {
     @JoinColumn(name = "created_by", nullable = false)
     private User createdBy;
 
-    @OneToMany(mappedBy = "topic", fetch = FetchType.EAGER)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    @OneToMany(mappedBy = "topic", fetch = FetchType.LAZY)
     @OrderBy("position ASC")
     private List<TopicRole> roles = new ArrayList<>();
 }
\ No newline at end of file
@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import thesistrack.ls1.entity.key.TopicRoleId;
 
 import java.time.Instant;
@@ -11,6 +13,8 @@ import java.time.Instant;
 @Getter
 @Setter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "topic_roles")
 public class TopicRole {
     @EmbeddedId
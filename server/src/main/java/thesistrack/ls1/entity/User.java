@@ -3,13 +3,18 @@ package thesistrack.ls1.entity;
 import jakarta.mail.internet.InternetAddress;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.type.SqlTypes;
+import thesistrack.ls1.entity.generator.GeneratedUuidV7;
 
+import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
@@ -18,10 +23,23 @@ import java.util.*;
 @Getter
 @Setter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "users")
+@NamedEntityGraph(
+        name = "User.groups",
+        attributeNodes = @NamedAttributeNode("groups")
+)
+@NamedEntityGraph(
+        name = "User.mailRecipient",
+        attributeNodes = {
+                @NamedAttributeNode("groups"),
+                @NamedAttributeNode("notificationSettings")
+        }
+)
 public class User {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     @Column(name = "user_id", nullable = false)
     private UUID id;
 
@@ -35,6 +53,10 @@ public class User {
     @Column(name = "email")
     private String email;
 
+    @Setter(AccessLevel.NONE)
+    @Column(name = "gravatar_hash")
+    private String gravatarHash;
+
     @Column(name = "avatar")
     private String avatar;
 
@@ -81,6 +103,9 @@ public class User {
     @Column(name = "enrolled_at")
     private Instant enrolledAt;
 
+    @Column(name = "claims_fingerprint")
+    private String claimsFingerprint;
+
     @UpdateTimestamp
     @NotNull
     @Column(name = "updated_at", nullable = false)
@@ -91,7 +116,8 @@ public class User {
     @Column(name = "joined_at", nullable = false)
     private Instant joinedAt;
 
-    @OneToMany(mappedBy = "user", fetch = FetchType.EAGER)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    @OneToMany(mappedBy = "user", fetch = FetchType.LAZY)
     private Set<UserGroup> groups = new HashSet<>();
 
     @OneToMany(mappedBy = "user", fetch = FetchType.LAZY)
@@ -105,11 +131,28 @@ public class User {
         }
     }
 
+    public void setEmail(String email) {
+        this.email = email;
+        this.gravatarHash = createGravatarHash(email);
+    }
+
     public String getAdjustedAvatar() {
+        return getAdjustedAvatar(avatar, gravatarHash);
+    }
+
+    public static String getAdjustedAvatar(String avatar, String gravatarHash) {
         if (avatar != null && !avatar.isBlank()) {
             return avatar;
         }
 
+        if (gravatarHash == null) {
+            return null;
+        }
+
+        return "https://www.gravatar.com/avatar/" + gravatarHash + "?s=400";
+    }
+
+    private static String createGravatarHash(String email) {
         if (email == null) {
             return null;
         }
@@ -117,15 +160,7 @@ public class User {
         try {
             MessageDigest md = MessageDigest.getInstance("MD5");
 
-            byte[] hashInBytes = md.digest(email.trim().toLowerCase().getBytes());
-
-            StringBuilder sb = new StringBuilder();
-
-            for (byte b : hashInBytes) {
-                sb.append(String.format("%02x", b));
-            }
-
-            return "https://www.gravatar.com/avatar/" + sb + "?s=400";
+            return HexFormat.of().formatHex(md.digest(email.trim().toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8)));
         } catch (NoSuchAlgorithmException e) {
             return null;
         }
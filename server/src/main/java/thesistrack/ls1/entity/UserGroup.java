@@ -3,13 +3,17 @@ package thesistrack.ls1.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import thesistrack.ls1.entity.key.UserGroupId;
 
 @Getter
 @Setter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "user_groups")
-public class UserGroup {
+public class UserGroup extends AssignedIdEntity<UserGroupId> {
     @EmbeddedId
     private UserGroupId id;
 
@@ -17,4 +21,4 @@ public class UserGroup {
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
-}
\ No newline at end of file
+}
@@ -0,0 +1,121 @@
+package thesistrack.ls1.metrics;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import thesistrack.ls1.dto.SlowQueryDto;
+import thesistrack.ls1.utility.SqlHelper;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Receives every statement from the proxied data source and the result sizes of repository calls and attributes
+ * them to all scopes (http request, repository call) that are currently open on the executing thread.
+ */
+@Component
+public class QueryMetrics implements QueryExecutionListener {
+    private static final int MAX_TRACKED_QUERIES = 1_000;
+
+    private final ThreadLocal<Deque<QueryStatistics>> activeScopes = new ThreadLocal<>();
+    private final Map<String, QueryAggregate> queries = new ConcurrentHashMap<>();
+
+    private final int topQueries;
+
+    public QueryMetrics(@Value("${thesis-track.query-metrics.top-queries}") int topQueries) {
+        this.topQueries = topQueries;
+    }
+
+    public QueryStatistics openScope() {
+        Deque<QueryStatistics> scopes = activeScopes.get();
+
+        if (scopes == null) {
+            scopes = new ArrayDeque<>();
+            activeScopes.set(scopes);
+        }
+
+        QueryStatistics statistics = new QueryStatistics();
+        scopes.push(statistics);
+
+        return statistics;
+    }
+
+    public void closeScope(QueryStatistics statistics) {
+        Deque<QueryStatistics> scopes = activeScopes.get();
+
+        if (scopes == null) {
+            return;
+        }
+
+        scopes.remove(statistics);
+
+        if (scopes.isEmpty()) {
+            activeScopes.remove();
+        }
+    }
+
+    public List<SlowQueryDto> getSlowestQueries() {
+        return queries.entrySet().stream()
+                .map(entry -> entry.getValue().toDto(entry.getKey()))
+                .sorted(Comparator.comparingLong(SlowQueryDto::maxTimeMillis).reversed())
+                .limit(topQueries)
+                .toList();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {}
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsedTime = execInfo.getElapsedTime();
+
+        for (QueryStatistics statistics : getActiveScopes()) {
+            statistics.recordStatement(elapsedTime);
+        }
+
+        for (QueryInfo queryInfo : queryInfoList) {
+            String query = SqlHelper.normalizeQuery(queryInfo.getQuery());
+            QueryAggregate aggregate = queries.get(query);
+
+            if (aggregate == null && queries.size() < MAX_TRACKED_QUERIES) {
+                aggregate = queries.computeIfAbsent(query, key -> new QueryAggregate());
+            }
+
+            if (aggregate != null) {
+                aggregate.record(elapsedTime);
+            }
+        }
+    }
+
+    public void recordRows(long rows) {
+        for (QueryStatistics statistics : getActiveScopes()) {
+            statistics.recordRows(rows);
+        }
+    }
+
+    private Collection<QueryStatistics> getActiveScopes() {
+        Deque<QueryStatistics> scopes = activeScopes.get();
+
+        return scopes == null ? List.of() : scopes;
+    }
+
+    private static class QueryAggregate {
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder totalTime = new LongAdder();
+        private final LongAccumulator maxTime = new LongAccumulator(Long::max, 0);
+
+        void record(long elapsedTime) {
+            executions.increment();
+            totalTime.add(elapsedTime);
+            maxTime.accumulate(elapsedTime);
+        }
+
+        SlowQueryDto toDto(String query) {
+            return new SlowQueryDto(query, executions.sum(), totalTime.sum(), maxTime.get());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package thesistrack.ls1.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+@Component
+public class QueryMetricsFilter extends OncePerRequestFilter {
+    private static final Logger log = LoggerFactory.getLogger(QueryMetricsFilter.class);
+
+    private final QueryMetrics queryMetrics;
+    private final MeterRegistry meterRegistry;
+    private final long statementThreshold;
+    private final long timeThreshold;
+
+    public QueryMetricsFilter(
+            QueryMetrics queryMetrics,
+            MeterRegistry meterRegistry,
+            @Value("${thesis-track.query-metrics.statement-threshold}") long statementThreshold,
+            @Value("${thesis-track.query-metrics.time-threshold}") long timeThreshold
+    ) {
+        this.queryMetrics = queryMetrics;
+        this.meterRegistry = meterRegistry;
+        this.statementThreshold = statementThreshold;
+        this.timeThreshold = timeThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        QueryStatistics statistics = queryMetrics.openScope();
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            queryMetrics.closeScope(statistics);
+
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+
+            statistics.publish(meterRegistry, "thesistrack.request", Tags.of("method", request.getMethod(), "uri", uri));
+
+            if (statistics.getStatements() > statementThreshold || statistics.getElapsedTimeMillis() > timeThreshold) {
+                log.warn(
+                        "Request exceeded query thresholds method={} uri={} status={} statements={} dbTimeMs={} rows={}",
+                        request.getMethod(),
+                        uri,
+                        response.getStatus(),
+                        statistics.getStatements(),
+                        statistics.getElapsedTimeMillis(),
+                        statistics.getRows()
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package thesistrack.ls1.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class QueryStatistics {
+    private long statements;
+    private long elapsedTimeMillis;
+    private long rows;
+
+    void recordStatement(long elapsedTimeMillis) {
+        this.statements++;
+        this.elapsedTimeMillis += elapsedTimeMillis;
+    }
+
+    void recordRows(long rows) {
+        this.rows += rows;
+    }
+
+    public void publish(MeterRegistry meterRegistry, String prefix, Tags tags) {
+        DistributionSummary.builder(prefix + ".statements")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statements);
+
+        Timer.builder(prefix + ".db.time")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(Duration.ofMillis(elapsedTimeMillis));
+
+        DistributionSummary.builder(prefix + ".rows")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(rows);
+    }
+}
@@ -0,0 +1,69 @@
+package thesistrack.ls1.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Aspect
+@Component
+public class RepositoryQueryMetricsAspect {
+    private final QueryMetrics queryMetrics;
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    public RepositoryQueryMetricsAspect(QueryMetrics queryMetrics, MeterRegistry meterRegistry) {
+        this.queryMetrics = queryMetrics;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object measureRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        QueryStatistics statistics = queryMetrics.openScope();
+        Object result = null;
+
+        try {
+            result = joinPoint.proceed();
+
+            return result;
+        } finally {
+            queryMetrics.recordRows(countRows(result));
+            queryMetrics.closeScope(statistics);
+
+            Tags tags = Tags.of("repository", getRepositoryName(joinPoint.getThis()), "method", joinPoint.getSignature().getName());
+            statistics.publish(meterRegistry, "thesistrack.repository", tags);
+        }
+    }
+
+    /**
+     * Counts the entities or projections a repository call returned. Lazy associations loaded later are not included.
+     */
+    private static long countRows(Object result) {
+        return switch (result) {
+            case null -> 0;
+            case Collection<?> collection -> collection.size();
+            case Slice<?> slice -> slice.getNumberOfElements();
+            case Optional<?> optional -> optional.isPresent() ? 1 : 0;
+            default -> 1;
+        };
+    }
+
+        private String getRepositoryName(Object repository) {
+        return repositoryNames.computeIfAbsent(repository.getClass(), key -> Arrays.stream(AopProxyUtils.proxiedUserInterfaces(repository))
+                .filter(Repository.class::isAssignableFrom)
+                .findFirst()
+                .map(Class::getSimpleName)
+                .orElse(key.getSimpleName()));
+    }
+}
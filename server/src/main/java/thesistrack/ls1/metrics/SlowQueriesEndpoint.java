@@ -0,0 +1,23 @@
+package thesistrack.ls1.metrics;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+import thesistrack.ls1.dto.SlowQueryDto;
+
+import java.util.List;
+
+@Component
+@Endpoint(id = "slowqueries")
+public class SlowQueriesEndpoint {
+    private final QueryMetrics queryMetrics;
+
+    public SlowQueriesEndpoint(QueryMetrics queryMetrics) {
+        this.queryMetrics = queryMetrics;
+    }
+
+    @ReadOperation
+    public List<SlowQueryDto> slowQueries() {
+        return queryMetrics.getSlowestQueries();
+    }
+}
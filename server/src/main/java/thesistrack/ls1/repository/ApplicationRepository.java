@@ -1,55 +1,169 @@
 package thesistrack.ls1.repository;
 
-import org.springframework.data.domain.Page;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-import thesistrack.ls1.constants.ApplicationState;
+import org.springframework.transaction.annotation.Transactional;
+import thesistrack.ls1.config.CacheConfig;
 import thesistrack.ls1.entity.Application;
-import thesistrack.ls1.entity.Topic;
-import thesistrack.ls1.entity.User;
+import thesistrack.ls1.repository.projection.ApplicationSummaryRow;
+import thesistrack.ls1.repository.projection.FacetCount;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
-import java.util.Set;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface ApplicationRepository extends JpaRepository<Application, UUID> {
+    String SEARCH_APPLICATIONS_FROM =
+            "FROM applications a " +
+            "JOIN users u ON (u.user_id = a.user_id) " +
+            "LEFT JOIN application_reviewers ar ON (" +
+                    "ar.user_id = CAST(:reviewerId AS UUID) AND ar.reason = 'NOT_INTERESTED' AND ar.application_id = a.application_id" +
+            ") ";
+
+    String APPLICATIONS_CONTEXT_FILTER =
+            "(CAST(:userId AS UUID) IS NULL OR a.user_id = CAST(:userId AS UUID)) AND " +
+            "(ar.application_id IS NULL OR a.application_id = ANY(CAST(:previousIds AS UUID[]))) AND " +
+            "(CAST(:searchQuery AS TEXT) IS NULL OR " +
+            "LOWER(u.first_name) || ' ' || LOWER(u.last_name) LIKE CONCAT('%', :searchQuery, '%') OR " +
+            "LOWER(u.email) LIKE CONCAT('%', :searchQuery, '%') OR " +
+            "LOWER(u.matriculation_number) LIKE CONCAT('%', :searchQuery, '%') OR " +
+            "LOWER(u.university_id) LIKE CONCAT('%', :searchQuery, '%'))";
+
+    String APPLICATIONS_STATES_FILTER =
+            "(CAST(:states AS TEXT[]) IS NULL OR a.state = ANY(CAST(:states AS TEXT[])) OR a.application_id = ANY(CAST(:previousIds AS UUID[])))";
+
+    String APPLICATIONS_TOPICS_FILTER =
+            "(:includeSuggestedTopics = TRUE OR a.topic_id IS NOT NULL) AND " +
+            "(CAST(:topics AS UUID[]) IS NULL OR a.topic_id = ANY(CAST(:topics AS UUID[])) OR (:includeSuggestedTopics = TRUE AND a.topic_id IS NULL))";
+
+    String APPLICATIONS_TYPES_FILTER = "(CAST(:types AS TEXT[]) IS NULL OR a.thesis_type = ANY(CAST(:types AS TEXT[])))";
+
+    String SEARCH_APPLICATIONS_FILTER =
+            APPLICATIONS_CONTEXT_FILTER + " AND " + APPLICATIONS_STATES_FILTER + " AND " +
+            APPLICATIONS_TOPICS_FILTER + " AND " + APPLICATIONS_TYPES_FILTER;
+
+    String APPLICATIONS_CURSOR_FILTER =
+            "(CAST(:cursorCreatedAt AS TIMESTAMP) IS NULL OR " +
+            "(:ascending = TRUE AND (a.created_at, a.application_id) > (CAST(:cursorCreatedAt AS TIMESTAMP), CAST(:cursorId AS UUID))) OR " +
+            "(:ascending = FALSE AND (a.created_at, a.application_id) < (CAST(:cursorCreatedAt AS TIMESTAMP), CAST(:cursorId AS UUID))))";
+
     @Query(
-            "SELECT DISTINCT a FROM Application a WHERE " +
-            "(:userId IS NULL OR a.user.id = :userId) AND " +
-            "(:states IS NULL OR a.state IN :states OR (:previousIds IS NOT NULL AND a.id IN :previousIds)) AND " +
-            "(:reviewerId IS NULL OR NOT EXISTS (SELECT ar FROM ApplicationReviewer ar WHERE a.id = ar.application.id AND ar.user.id = :reviewerId AND ar.reason = 'NOT_INTERESTED') OR (:previousIds IS NOT NULL AND a.id IN :previousIds)) AND " +
-            "(:includeSuggestedTopics = true OR a.topic IS NOT NULL) AND " +
-            "(:topics IS NULL OR a.topic.id IN :topics OR (:includeSuggestedTopics = true AND a.topic IS NULL)) AND " +
-            "(:types IS NULL OR a.thesisType IN :types) AND " +
-            "(:searchQuery IS NULL OR (LOWER(a.user.firstName) || ' ' || LOWER(a.user.lastName)) LIKE %:searchQuery% OR " +
-            "LOWER(a.user.email) LIKE %:searchQuery% OR " +
-            "LOWER(a.user.matriculationNumber) LIKE %:searchQuery% OR " +
-            "LOWER(a.user.universityId) LIKE %:searchQuery%)"
+            value = "SELECT a.application_id " + SEARCH_APPLICATIONS_FROM + "WHERE " + SEARCH_APPLICATIONS_FILTER,
+            nativeQuery = true
     )
-    Page<Application> searchApplications(
+    Slice<UUID> searchApplicationIds(
             @Param("userId") UUID userId,
             @Param("reviewerId") UUID reviewerId,
             @Param("searchQuery") String searchQuery,
-            @Param("states") Set<ApplicationState> states,
-            @Param("previousIds") Set<String> previousIds,
-            @Param("topics") Set<String> topics,
-            @Param("types") Set<String> types,
+            @Param("states") String[] states,
+            @Param("previousIds") UUID[] previousIds,
+            @Param("topics") UUID[] topics,
+            @Param("types") String[] types,
             @Param("includeSuggestedTopics") boolean includeSuggestedTopics,
             Pageable page
     );
 
+    @Cacheable(CacheConfig.APPLICATION_COUNTS)
+    @Query(
+            value = "SELECT COUNT(*) " + SEARCH_APPLICATIONS_FROM + "WHERE " + SEARCH_APPLICATIONS_FILTER,
+            nativeQuery = true
+    )
+    long countApplications(
+            @Param("userId") UUID userId,
+            @Param("reviewerId") UUID reviewerId,
+            @Param("searchQuery") String searchQuery,
+            @Param("states") String[] states,
+            @Param("previousIds") UUID[] previousIds,
+            @Param("topics") UUID[] topics,
+            @Param("types") String[] types,
+            @Param("includeSuggestedTopics") boolean includeSuggestedTopics
+    );
+
+    /**
+     * Counts applications per state, thesis type and topic in a single pass. Each facet is filtered by the
+     * selection of the other facets but not by its own.
+     */
+    @Cacheable(CacheConfig.APPLICATION_FACETS)
+    @Query(
+            value = "SELECT " +
+                    "CASE " +
+                    "WHEN GROUPING(a.state) = 0 THEN 'STATE' " +
+                    "WHEN GROUPING(a.thesis_type) = 0 THEN 'TYPE' " +
+                    "WHEN GROUPING(a.topic_id) = 0 THEN 'TOPIC' " +
+                    "ELSE 'TOTAL' END AS facet, " +
+                    "COALESCE(a.state, a.thesis_type, CAST(a.topic_id AS TEXT)) AS value, " +
+                    "CASE " +
+                    "WHEN GROUPING(a.state) = 0 THEN COUNT(*) FILTER (WHERE " + APPLICATIONS_TOPICS_FILTER + " AND " + APPLICATIONS_TYPES_FILTER + ") " +
+                    "WHEN GROUPING(a.thesis_type) = 0 THEN COUNT(*) FILTER (WHERE " + APPLICATIONS_STATES_FILTER + " AND " + APPLICATIONS_TOPICS_FILTER + ") " +
+                    "WHEN GROUPING(a.topic_id) = 0 THEN COUNT(*) FILTER (WHERE " + APPLICATIONS_STATES_FILTER + " AND " + APPLICATIONS_TYPES_FILTER + ") " +
+                    "ELSE COUNT(*) FILTER (WHERE " + APPLICATIONS_STATES_FILTER + " AND " + APPLICATIONS_TOPICS_FILTER + " AND " + APPLICATIONS_TYPES_FILTER + ") " +
+                    "END AS count " +
+                    SEARCH_APPLICATIONS_FROM + "WHERE " + APPLICATIONS_CONTEXT_FILTER + " " +
+                    "GROUP BY GROUPING SETS ((a.state), (a.thesis_type), (a.topic_id), ())",
+            nativeQuery = true
+    )
+    List<FacetCount> countApplicationFacets(
+            @Param("userId") UUID userId,
+            @Param("reviewerId") UUID reviewerId,
+            @Param("searchQuery") String searchQuery,
+            @Param("states") String[] states,
+            @Param("previousIds") UUID[] previousIds,
+            @Param("topics") UUID[] topics,
+            @Param("types") String[] types,
+            @Param("includeSuggestedTopics") boolean includeSuggestedTopics
+    );
+
     @Query(
-            "SELECT COUNT(DISTINCT a) FROM Application a " +
-            "LEFT JOIN Topic t ON (a.topic.id = t.id) " +
-            "LEFT JOIN TopicRole r ON (t.id = r.topic.id) " +
-            "WHERE " +
-                    "(a.topic IS NULL OR :userId IS NULL OR r.user.id = :userId) AND " +
-                    "a.state = 'NOT_ASSESSED' AND " +
-                    "(:userId IS NULL OR NOT EXISTS(SELECT ar FROM ApplicationReviewer ar WHERE ar.application.id = a.id AND ar.user.id = :userId))"
+            value = "SELECT a.application_id " + SEARCH_APPLICATIONS_FROM + "WHERE " + SEARCH_APPLICATIONS_FILTER + " AND " + APPLICATIONS_CURSOR_FILTER,
+            nativeQuery = true
+    )
+    Slice<UUID> searchApplicationIdsAfterCursor(
+            @Param("userId") UUID userId,
+            @Param("reviewerId") UUID reviewerId,
+            @Param("searchQuery") String searchQuery,
+            @Param("states") String[] states,
+            @Param("previousIds") UUID[] previousIds,
+            @Param("topics") UUID[] topics,
+            @Param("types") String[] types,
+            @Param("includeSuggestedTopics") boolean includeSuggestedTopics,
+            @Param("cursorCreatedAt") Instant cursorCreatedAt,
+            @Param("cursorId") UUID cursorId,
+            @Param("ascending") boolean ascending,
+            Pageable page
+    );
+
+    @EntityGraph("Application.detail")
+    List<Application> findAllByIdIn(Collection<UUID> ids);
+
+    @Override
+    @EntityGraph("Application.detail")
+    Optional<Application> findById(UUID applicationId);
+
+    @Query(
+            "SELECT new thesistrack.ls1.repository.projection.ApplicationSummaryRow(" +
+            "a.id, a.state, a.thesisTitle, a.thesisType, a.desiredStartDate, a.createdAt, a.reviewedAt, " +
+            "u.id, u.universityId, u.firstName, u.lastName, u.avatar, u.gravatarHash, t.id, t.title" +
+            ") FROM Application a JOIN a.user u LEFT JOIN a.topic t WHERE a.id IN :applicationIds"
+    )
+    List<ApplicationSummaryRow> findSummariesByIdIn(@Param("applicationIds") Collection<UUID> applicationIds);
+
+    @Query(
+            value = "SELECT COUNT(*) FROM applications a " +
+                    "LEFT JOIN application_reviewers ar ON (ar.user_id = CAST(:userId AS UUID) AND ar.application_id = a.application_id) " +
+                    "WHERE a.state = 'NOT_ASSESSED' AND ar.application_id IS NULL AND " +
+                    "(a.topic_id IS NULL OR CAST(:userId AS UUID) IS NULL OR EXISTS (" +
+                            "SELECT 1 FROM topic_roles r WHERE r.topic_id = a.topic_id AND r.user_id = CAST(:userId AS UUID)" +
+                    "))",
+            nativeQuery = true
     )
     long countUnreviewedApplications(@Param("userId") UUID userId);
 
@@ -65,6 +179,44 @@ public interface ApplicationRepository extends JpaRepository<Application, UUID>
             @Param("topicId") UUID topicId
     );
 
-    List<Application> findAllByTopic(Topic topic);
-    List<Application> findAllByUser(User user);
+    @Transactional
+    @Query(
+            value = "UPDATE applications SET state = 'REJECTED', reject_reason = :rejectReason, reviewed_at = :reviewedAt " +
+                    "WHERE topic_id = :topicId AND state = 'NOT_ASSESSED' " +
+                    "RETURNING application_id",
+            nativeQuery = true
+    )
+    List<UUID> rejectPendingApplicationsForTopic(
+            @Param("topicId") UUID topicId,
+            @Param("rejectReason") String rejectReason,
+            @Param("reviewedAt") Instant reviewedAt
+    );
+
+    @Transactional
+    @Query(
+            value = "UPDATE applications SET state = 'REJECTED', reject_reason = :rejectReason, reviewed_at = :reviewedAt " +
+                    "WHERE user_id = :userId AND state = 'NOT_ASSESSED' " +
+                    "RETURNING application_id",
+            nativeQuery = true
+    )
+    List<UUID> rejectPendingApplicationsForUser(
+            @Param("userId") UUID userId,
+            @Param("rejectReason") String rejectReason,
+            @Param("reviewedAt") Instant reviewedAt
+    );
+
+    @Transactional
+    @Query(
+            value = "UPDATE applications SET state = 'REJECTED', reject_reason = :rejectReason, reviewed_at = :reviewedAt " +
+                    "WHERE state = 'NOT_ASSESSED' AND user_id IN (" +
+                            "SELECT a.user_id FROM applications a WHERE a.application_id = ANY(CAST(:applicationIds AS UUID[]))" +
+                    ") " +
+                    "RETURNING application_id",
+            nativeQuery = true
+    )
+    List<UUID> rejectPendingApplicationsForApplicants(
+            @Param("applicationIds") UUID[] applicationIds,
+            @Param("rejectReason") String rejectReason,
+            @Param("reviewedAt") Instant reviewedAt
+    );
 }
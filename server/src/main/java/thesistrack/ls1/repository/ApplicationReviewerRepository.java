@@ -1,13 +1,33 @@
 package thesistrack.ls1.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import thesistrack.ls1.entity.ApplicationReviewer;
-import thesistrack.ls1.entity.ThesisStateChange;
 import thesistrack.ls1.entity.key.ApplicationReviewerId;
-import thesistrack.ls1.entity.key.ThesisStateChangeId;
+
+import java.time.Instant;
+import java.util.UUID;
 
 
 @Repository
 public interface ApplicationReviewerRepository extends JpaRepository<ApplicationReviewer, ApplicationReviewerId> {
+    @Modifying
+    @Transactional
+    @Query(
+            value = "INSERT INTO application_reviewers (application_id, user_id, reason, reviewed_at) " +
+                    "SELECT application_id, :userId, :reason, :reviewedAt " +
+                    "FROM UNNEST(:applicationIds) AS application_id " +
+                    "ON CONFLICT (application_id, user_id) DO UPDATE SET reason = EXCLUDED.reason, reviewed_at = EXCLUDED.reviewed_at",
+            nativeQuery = true
+    )
+    void upsertReviews(
+            @Param("applicationIds") UUID[] applicationIds,
+            @Param("userId") UUID userId,
+            @Param("reason") String reason,
+            @Param("reviewedAt") Instant reviewedAt
+    );
 }
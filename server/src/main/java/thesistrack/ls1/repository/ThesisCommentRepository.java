@@ -1,7 +1,7 @@
 package thesistrack.ls1.repository;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -22,9 +22,12 @@ public interface ThesisCommentRepository extends JpaRepository<ThesisComment, UU
             "c.thesis.id = :thesisId AND c.type = :commentType " +
             "ORDER BY c.createdAt DESC"
     )
-    Page<ThesisComment> searchComments(
+    Slice<ThesisComment> searchComments(
             @Param("thesisId") UUID thesisId,
             @Param("commentType") ThesisCommentType commentType,
             Pageable page
     );
+
+    @Query("SELECT COUNT(c) FROM ThesisComment c WHERE c.thesis.id = :thesisId AND c.type = :commentType")
+    long countComments(@Param("thesisId") UUID thesisId, @Param("commentType") ThesisCommentType commentType);
 }
@@ -1,43 +1,150 @@
 package thesistrack.ls1.repository;
 
-import org.springframework.data.domain.Page;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import thesistrack.ls1.config.CacheConfig;
 import thesistrack.ls1.constants.ThesisRoleName;
 import thesistrack.ls1.constants.ThesisState;
-import thesistrack.ls1.constants.ThesisVisibility;
 import thesistrack.ls1.entity.Thesis;
+import thesistrack.ls1.repository.projection.FacetCount;
+import thesistrack.ls1.repository.projection.ThesisSummaryRow;
+import thesistrack.ls1.repository.projection.ThesisTitle;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
 @Repository
 public interface ThesisRepository extends JpaRepository<Thesis, UUID> {
+    String THESES_CONTEXT_FILTER =
+            "(CAST(:userId AS UUID) IS NULL OR EXISTS (SELECT 1 FROM thesis_roles r WHERE r.thesis_id = t.thesis_id AND r.user_id = CAST(:userId AS UUID))) AND " +
+            "(CAST(:visibilities AS TEXT[]) IS NULL OR t.visibility = ANY(CAST(:visibilities AS TEXT[])) OR CAST(:userId AS UUID) IS NOT NULL) AND " +
+            "(CAST(:searchQuery AS TEXT) IS NULL OR t.search_vector @@ to_tsquery('simple', :searchTsQuery) OR t.search_text LIKE CONCAT('%', :searchQuery, '%'))";
+
+    String THESES_STATES_FILTER = "(CAST(:states AS TEXT[]) IS NULL OR t.state = ANY(CAST(:states AS TEXT[])))";
+
+    String THESES_TYPES_FILTER = "(CAST(:types AS TEXT[]) IS NULL OR t.type = ANY(CAST(:types AS TEXT[])))";
+
+    String SEARCH_THESES_FILTER = THESES_CONTEXT_FILTER + " AND " + THESES_STATES_FILTER + " AND " + THESES_TYPES_FILTER;
+
+    String THESES_CURSOR_FILTER =
+            "(CAST(:cursorCreatedAt AS TIMESTAMP) IS NULL OR " +
+            "(:ascending = TRUE AND (t.created_at, t.thesis_id) > (CAST(:cursorCreatedAt AS TIMESTAMP), CAST(:cursorId AS UUID))) OR " +
+            "(:ascending = FALSE AND (t.created_at, t.thesis_id) < (CAST(:cursorCreatedAt AS TIMESTAMP), CAST(:cursorId AS UUID))))";
+
     @Query(
-            "SELECT DISTINCT t FROM Thesis t LEFT JOIN ThesisRole r ON (t.id = r.thesis.id) WHERE " +
-            "(:userId IS NULL OR r.user.id = :userId) AND " +
-            "(:visibilities IS NULL OR t.visibility IN :visibilities OR r.user.id = :userId) AND " +
-            "(:states IS NULL OR t.state IN :states) AND " +
-            "(:types IS NULL OR t.type IN :types) AND " +
-            "(:searchQuery IS NULL OR LOWER(t.title) LIKE %:searchQuery% OR " +
-            "LOWER(r.user.firstName) || ' ' || LOWER(r.user.lastName) LIKE %:searchQuery% OR " +
-            "LOWER(r.user.email) LIKE %:searchQuery% OR " +
-            "LOWER(r.user.matriculationNumber) LIKE %:searchQuery% OR " +
-            "LOWER(r.user.universityId) LIKE %:searchQuery%)"
+            value = "SELECT t.thesis_id FROM theses t WHERE " + SEARCH_THESES_FILTER + " " +
+                    "ORDER BY ts_rank(t.search_vector, to_tsquery('simple', :searchTsQuery)) DESC NULLS LAST",
+            nativeQuery = true
+    )
+    Slice<UUID> searchThesisIds(
+            @Param("userId") UUID userId,
+            @Param("visibilities") String[] visibilities,
+            @Param("searchQuery") String searchQuery,
+            @Param("searchTsQuery") String searchTsQuery,
+            @Param("states") String[] states,
+            @Param("types") String[] types,
+            Pageable page
+    );
+
+    @Cacheable(CacheConfig.THESIS_COUNTS)
+    @Query(value = "SELECT COUNT(*) FROM theses t WHERE " + SEARCH_THESES_FILTER, nativeQuery = true)
+    long countTheses(
+            @Param("userId") UUID userId,
+            @Param("visibilities") String[] visibilities,
+            @Param("searchQuery") String searchQuery,
+            @Param("searchTsQuery") String searchTsQuery,
+            @Param("states") String[] states,
+            @Param("types") String[] types
+    );
+
+    @Query(
+            value = "SELECT t.thesis_id FROM theses t WHERE " + SEARCH_THESES_FILTER + " AND " + THESES_CURSOR_FILTER,
+            nativeQuery = true
+    )
+    Slice<UUID> searchThesisIdsAfterCursor(
+            @Param("userId") UUID userId,
+            @Param("visibilities") String[] visibilities,
+            @Param("searchQuery") String searchQuery,
+            @Param("searchTsQuery") String searchTsQuery,
+            @Param("states") String[] states,
+            @Param("types") String[] types,
+            @Param("cursorCreatedAt") Instant cursorCreatedAt,
+            @Param("cursorId") UUID cursorId,
+            @Param("ascending") boolean ascending,
+            Pageable page
+    );
+
+    /**
+     * Counts theses per state and per type in a single pass. Each facet is filtered by the other
+     * facet's selection but not by its own, so the client can show counts for alternative options.
+     */
+    @Cacheable(CacheConfig.THESIS_FACETS)
+    @Query(
+            value = "SELECT " +
+                    "CASE WHEN GROUPING(t.state) = 0 THEN 'STATE' WHEN GROUPING(t.type) = 0 THEN 'TYPE' ELSE 'TOTAL' END AS facet, " +
+                    "COALESCE(t.state, t.type) AS value, " +
+                    "CASE " +
+                    "WHEN GROUPING(t.state) = 0 THEN COUNT(*) FILTER (WHERE " + THESES_TYPES_FILTER + ") " +
+                    "WHEN GROUPING(t.type) = 0 THEN COUNT(*) FILTER (WHERE " + THESES_STATES_FILTER + ") " +
+                    "ELSE COUNT(*) FILTER (WHERE " + THESES_STATES_FILTER + " AND " + THESES_TYPES_FILTER + ") " +
+                    "END AS count " +
+                    "FROM theses t WHERE " + THESES_CONTEXT_FILTER + " " +
+                    "GROUP BY GROUPING SETS ((t.state), (t.type), ())",
+            nativeQuery = true
     )
-    Page<Thesis> searchTheses(
+    List<FacetCount> countThesisFacets(
             @Param("userId") UUID userId,
-            @Param("visibilities") Set<ThesisVisibility> visibilities,
+            @Param("visibilities") String[] visibilities,
+            @Param("searchQuery") String searchQuery,
+            @Param("searchTsQuery") String searchTsQuery,
+            @Param("states") String[] states,
+            @Param("types") String[] types
+    );
+
+    @Query(
+            value = "SELECT t.thesis_id AS \"thesisId\", t.title AS \"title\" FROM theses t WHERE " +
+                    "(CAST(:searchQuery AS TEXT) IS NULL OR t.search_text LIKE CONCAT('%', :searchQuery, '%')) AND " +
+                    "(CAST(:visibilities AS TEXT[]) IS NULL OR t.visibility = ANY(CAST(:visibilities AS TEXT[])) OR " +
+                    "EXISTS (SELECT 1 FROM thesis_roles r WHERE r.thesis_id = t.thesis_id AND r.user_id = CAST(:userId AS UUID))) " +
+                    "ORDER BY CASE WHEN LOWER(t.title) LIKE CONCAT(:searchQuery, '%') THEN 0 ELSE 1 END, t.created_at DESC",
+            nativeQuery = true
+    )
+    List<ThesisTitle> findThesisTitles(
+            @Param("userId") UUID userId,
+            @Param("visibilities") String[] visibilities,
             @Param("searchQuery") String searchQuery,
-            @Param("states") Set<ThesisState> states,
-            @Param("types") Set<String> types,
             Pageable page
     );
 
+    @EntityGraph("Thesis.listRow")
+    List<Thesis> findAllByIdIn(Collection<UUID> ids);
+
+    @Query(
+            "SELECT new thesistrack.ls1.repository.projection.ThesisSummaryRow(" +
+            "t.id, t.title, t.type, t.language, t.visibility, t.state, t.startDate, t.endDate, t.createdAt" +
+            ") FROM Thesis t WHERE t.id IN :thesisIds"
+    )
+    List<ThesisSummaryRow> findSummariesByIdIn(@Param("thesisIds") Collection<UUID> thesisIds);
+
+    @EntityGraph("Thesis.detail")
+    Optional<Thesis> findDetailById(UUID thesisId);
+
+    @EntityGraph("Thesis.accessCheck")
+    Optional<Thesis> findWithRolesById(UUID thesisId);
+
+    @EntityGraph("Thesis.mail")
+    Optional<Thesis> findMailById(UUID thesisId);
+
     @Query(
             "SELECT DISTINCT t FROM Thesis t LEFT JOIN ThesisRole r ON (t.id = r.thesis.id) WHERE " +
             "(t.state != 'FINISHED' AND t.state != 'DROPPED_OUT') AND " +
@@ -45,6 +152,7 @@ public interface ThesisRepository extends JpaRepository<Thesis, UUID> {
             "(:roleNames IS NULL OR r.id.role IN :roleNames) AND " +
             "(:states IS NULL OR t.state IN :states)"
     )
+    @EntityGraph("Thesis.dashboardTask")
     List<Thesis> findActiveThesesForRole(
             @Param("userId") UUID userId,
             @Param("roleNames") Set<ThesisRoleName> roleNames,
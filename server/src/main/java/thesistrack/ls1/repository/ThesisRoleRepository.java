@@ -1,10 +1,16 @@
 package thesistrack.ls1.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import thesistrack.ls1.constants.ThesisRoleName;
 import thesistrack.ls1.entity.ThesisRole;
 import thesistrack.ls1.entity.key.ThesisRoleId;
+import thesistrack.ls1.repository.projection.RoleMember;
+import thesistrack.ls1.repository.projection.ThesisStudentName;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -12,4 +18,20 @@ import java.util.UUID;
 @Repository
 public interface ThesisRoleRepository extends JpaRepository<ThesisRole, ThesisRoleId> {
     List<ThesisRole> deleteByThesisId(UUID thesisId);
+
+    @Query(
+            "SELECT new thesistrack.ls1.repository.projection.ThesisStudentName(r.thesis.id, r.user.firstName, r.user.lastName) " +
+            "FROM ThesisRole r WHERE r.thesis.id IN :thesisIds AND r.id.role = :role ORDER BY r.position ASC"
+    )
+    List<ThesisStudentName> findNamesByThesisIdsAndRole(
+            @Param("thesisIds") Collection<UUID> thesisIds,
+            @Param("role") ThesisRoleName role
+    );
+
+    @Query(
+            "SELECT new thesistrack.ls1.repository.projection.RoleMember(" +
+            "r.thesis.id, r.id.role, u.id, u.universityId, u.firstName, u.lastName, u.avatar, u.gravatarHash" +
+            ") FROM ThesisRole r JOIN r.user u WHERE r.thesis.id IN :thesisIds ORDER BY r.position ASC"
+    )
+    List<RoleMember> findMembersByThesisIds(@Param("thesisIds") Collection<UUID> thesisIds);
 }
@@ -1,36 +1,78 @@
 package thesistrack.ls1.repository;
 
-import org.springframework.data.domain.Page;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import thesistrack.ls1.config.CacheConfig;
 import thesistrack.ls1.constants.ThesisState;
 import thesistrack.ls1.constants.ThesisVisibility;
 import thesistrack.ls1.entity.Thesis;
 import thesistrack.ls1.entity.Topic;
+import thesistrack.ls1.repository.projection.TopicSummaryRow;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
 @Repository
 public interface TopicRepository  extends JpaRepository<Topic, UUID>  {
-    @Query(value =
-            "SELECT t.* FROM topics t WHERE " +
-            "(:searchQuery IS NULL OR t.title ILIKE CONCAT('%', :searchQuery, '%')) AND " +
+    @Override
+    @EntityGraph("Topic.roles")
+    Optional<Topic> findById(UUID topicId);
+
+    String SEARCH_TOPICS_FILTER =
+            "(CAST(:searchQuery AS TEXT) IS NULL OR t.search_vector @@ to_tsquery('simple', :searchTsQuery) OR lower(t.title) LIKE CONCAT('%', :searchQuery, '%')) AND " +
             "(t.thesis_types IS NULL OR CAST(:types AS TEXT[]) IS NULL OR t.thesis_types && CAST(:types AS TEXT[])) AND " +
-            "(:includeClosed = TRUE OR t.closed_at IS NULL)",
+            "(:includeClosed = TRUE OR t.closed_at IS NULL)";
+
+    @Query(
+            value = "SELECT t.* FROM topics t WHERE " + SEARCH_TOPICS_FILTER + " " +
+                    "ORDER BY ts_rank(t.search_vector, to_tsquery('simple', :searchTsQuery)) DESC NULLS LAST",
             nativeQuery = true
     )
-    Page<Topic> searchTopics(
+    Slice<Topic> searchTopics(
             @Param("types") String[] types,
             @Param("includeClosed") boolean includeClosed,
             @Param("searchQuery") String searchQuery,
+            @Param("searchTsQuery") String searchTsQuery,
             Pageable page
     );
 
+    @Query(
+            value = "SELECT t.topic_id FROM topics t WHERE " + SEARCH_TOPICS_FILTER + " " +
+                    "ORDER BY ts_rank(t.search_vector, to_tsquery('simple', :searchTsQuery)) DESC NULLS LAST",
+            nativeQuery = true
+    )
+    Slice<UUID> searchTopicIds(
+            @Param("types") String[] types,
+            @Param("includeClosed") boolean includeClosed,
+            @Param("searchQuery") String searchQuery,
+            @Param("searchTsQuery") String searchTsQuery,
+            Pageable page
+    );
+
+    @Query(
+            "SELECT new thesistrack.ls1.repository.projection.TopicSummaryRow(t.id, t.title, t.thesisTypes, t.closedAt, t.createdAt) " +
+            "FROM Topic t WHERE t.id IN :topicIds"
+    )
+    List<TopicSummaryRow> findSummariesByIdIn(@Param("topicIds") Collection<UUID> topicIds);
+
+    @Cacheable(CacheConfig.TOPIC_COUNTS)
+    @Query(value = "SELECT COUNT(*) FROM topics t WHERE " + SEARCH_TOPICS_FILTER, nativeQuery = true)
+    long countTopics(
+            @Param("types") String[] types,
+            @Param("includeClosed") boolean includeClosed,
+            @Param("searchQuery") String searchQuery,
+            @Param("searchTsQuery") String searchTsQuery
+    );
+
     @Query("SELECT COUNT(*) FROM Topic t WHERE t.closedAt IS NULL")
     long countOpenTopics();
 }
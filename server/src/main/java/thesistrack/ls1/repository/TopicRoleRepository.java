@@ -1,10 +1,14 @@
 package thesistrack.ls1.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import thesistrack.ls1.entity.TopicRole;
 import thesistrack.ls1.entity.key.TopicRoleId;
+import thesistrack.ls1.repository.projection.RoleMember;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -12,4 +16,11 @@ import java.util.UUID;
 @Repository
 public interface TopicRoleRepository extends JpaRepository<TopicRole, TopicRoleId> {
     List<TopicRole> deleteByTopicId(UUID topicId);
+
+    @Query(
+            "SELECT new thesistrack.ls1.repository.projection.RoleMember(" +
+            "r.topic.id, r.id.role, u.id, u.universityId, u.firstName, u.lastName, u.avatar, u.gravatarHash" +
+            ") FROM TopicRole r JOIN r.user u WHERE r.topic.id IN :topicIds ORDER BY r.position ASC"
+    )
+    List<RoleMember> findMembersByTopicIds(@Param("topicIds") Collection<UUID> topicIds);
 }
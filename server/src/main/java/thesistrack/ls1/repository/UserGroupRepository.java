@@ -6,9 +6,7 @@ import thesistrack.ls1.entity.UserGroup;
 import thesistrack.ls1.entity.key.UserGroupId;
 
 import java.util.List;
-import java.util.UUID;
 
 @Repository
 public interface UserGroupRepository extends JpaRepository<UserGroup, UserGroupId> {
-    void deleteByUserId(UUID id);
 }
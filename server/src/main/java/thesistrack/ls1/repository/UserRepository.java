@@ -1,13 +1,18 @@
 package thesistrack.ls1.repository;
 
-import org.springframework.data.domain.Page;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import thesistrack.ls1.config.CacheConfig;
 import thesistrack.ls1.entity.User;
+import thesistrack.ls1.repository.projection.UserSuggestionRow;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -15,18 +20,105 @@ import java.util.UUID;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
+    @EntityGraph("User.groups")
     Optional<User> findByUniversityId(String universityId);
 
+    @Cacheable(value = CacheConfig.AUTHENTICATED_USERS, unless = "#result == null")
+    @Query("SELECT u.id FROM User u WHERE u.universityId = :universityId")
+    Optional<UUID> findIdByUniversityId(@Param("universityId") String universityId);
+
+    String SEARCH_USERS_FILTER =
+            "(CAST(:searchQuery AS TEXT) IS NULL OR " +
+            "LOWER(u.first_name) || ' ' || LOWER(u.last_name) LIKE CONCAT('%', :searchQuery, '%') OR " +
+            "LOWER(u.email) LIKE CONCAT('%', :searchQuery, '%') OR " +
+            "LOWER(u.matriculation_number) LIKE CONCAT('%', :searchQuery, '%') OR " +
+            "LOWER(u.university_id) LIKE CONCAT('%', :searchQuery, '%'))";
+
+    String SEARCH_USERS_RANK =
+            "CASE WHEN CAST(:searchQuery AS TEXT) IS NULL THEN 0 " +
+            "WHEN LOWER(u.university_id) = :searchQuery OR " +
+            "LOWER(u.email) = :searchQuery OR " +
+            "LOWER(u.matriculation_number) = :searchQuery OR " +
+            "LOWER(u.first_name) || ' ' || LOWER(u.last_name) = :searchQuery THEN 3 " +
+            "WHEN LOWER(u.first_name) LIKE CONCAT(:searchQuery, '%') OR " +
+            "LOWER(u.last_name) LIKE CONCAT(:searchQuery, '%') OR " +
+            "LOWER(u.email) LIKE CONCAT(:searchQuery, '%') OR " +
+            "LOWER(u.matriculation_number) LIKE CONCAT(:searchQuery, '%') OR " +
+            "LOWER(u.university_id) LIKE CONCAT(:searchQuery, '%') THEN 2 " +
+            "ELSE 1 END";
+
+    String USERS_GROUP_FILTER =
+            "EXISTS (SELECT 1 FROM user_groups g WHERE g.user_id = u.user_id AND g.\"group\" = ANY(CAST(:groups AS TEXT[])))";
+
+    String USERS_CURSOR_FILTER =
+            "(CAST(:cursorJoinedAt AS TIMESTAMP) IS NULL OR " +
+            "(:ascending = TRUE AND (u.joined_at, u.user_id) > (CAST(:cursorJoinedAt AS TIMESTAMP), CAST(:cursorId AS UUID))) OR " +
+            "(:ascending = FALSE AND (u.joined_at, u.user_id) < (CAST(:cursorJoinedAt AS TIMESTAMP), CAST(:cursorId AS UUID))))";
+
+    @Query(
+            value = "SELECT u.* FROM users u WHERE " + SEARCH_USERS_FILTER + " ORDER BY " + SEARCH_USERS_RANK + " DESC",
+            nativeQuery = true
+    )
+    Slice<User> searchUsers(@Param("searchQuery") String searchQuery, Pageable page);
+
+    @Cacheable(CacheConfig.USER_COUNTS)
+    @Query(value = "SELECT COUNT(*) FROM users u WHERE " + SEARCH_USERS_FILTER, nativeQuery = true)
+    long countUsers(@Param("searchQuery") String searchQuery);
+
     @Query(
-            "SELECT DISTINCT u FROM User u LEFT JOIN UserGroup g ON (u.id = g.id.userId) WHERE " +
-            "(:groups IS NULL OR g.id.group IN :groups) AND " +
-            "(:searchQuery IS NULL OR LOWER(u.firstName) || ' ' || LOWER(u.lastName) LIKE %:searchQuery% OR " +
-            "LOWER(u.email) LIKE %:searchQuery% OR " +
-            "LOWER(u.matriculationNumber) LIKE %:searchQuery% OR " +
-            "LOWER(u.universityId) LIKE %:searchQuery%)"
+            value = "SELECT u.* FROM users u WHERE " + USERS_GROUP_FILTER + " AND " +
+                    SEARCH_USERS_FILTER + " ORDER BY " + SEARCH_USERS_RANK + " DESC",
+            nativeQuery = true
     )
-    Page<User> searchUsers(@Param("searchQuery") String searchQuery, @Param("groups") Set<String> groups, Pageable page);
+    Slice<User> searchUsersInGroups(
+            @Param("searchQuery") String searchQuery,
+            @Param("groups") String[] groups,
+            Pageable page
+    );
 
+    @Cacheable(CacheConfig.USER_COUNTS)
+    @Query(
+            value = "SELECT COUNT(*) FROM users u WHERE " + USERS_GROUP_FILTER + " AND " + SEARCH_USERS_FILTER,
+            nativeQuery = true
+    )
+    long countUsersInGroups(@Param("searchQuery") String searchQuery, @Param("groups") String[] groups);
+
+    @Query(
+            value = "SELECT u.* FROM users u WHERE " +
+                    "(CAST(:groups AS TEXT[]) IS NULL OR " + USERS_GROUP_FILTER + ") AND " +
+                    SEARCH_USERS_FILTER + " AND " + USERS_CURSOR_FILTER,
+            nativeQuery = true
+    )
+    Slice<User> searchUsersAfterCursor(
+            @Param("searchQuery") String searchQuery,
+            @Param("groups") String[] groups,
+            @Param("cursorJoinedAt") Instant cursorJoinedAt,
+            @Param("cursorId") UUID cursorId,
+            @Param("ascending") boolean ascending,
+            Pageable page
+    );
+
+    @EntityGraph("User.mailRecipient")
     @Query("SELECT DISTINCT u FROM User u LEFT JOIN UserGroup g ON (u.id = g.id.userId) WHERE g.id.group IN :roles")
     List<User> getRoleMembers(@Param("roles") Set<String> roles);
+
+    @Query(
+            "SELECT new thesistrack.ls1.repository.projection.UserSuggestionRow(u.id, u.universityId, u.firstName, u.lastName, u.avatar, u.gravatarHash) " +
+            "FROM User u WHERE " +
+            "(:searchQuery IS NULL OR " +
+            "LOWER(u.firstName) || ' ' || LOWER(u.lastName) LIKE CONCAT('%', :searchQuery, '%') OR " +
+            "LOWER(u.email) LIKE CONCAT('%', :searchQuery, '%') OR " +
+            "LOWER(u.matriculationNumber) LIKE CONCAT('%', :searchQuery, '%') OR " +
+            "LOWER(u.universityId) LIKE CONCAT('%', :searchQuery, '%')) AND " +
+            "(:groups IS NULL OR EXISTS (SELECT 1 FROM UserGroup g WHERE g.user.id = u.id AND g.id.group IN :groups)) " +
+            "ORDER BY CASE WHEN " +
+            "LOWER(u.firstName) LIKE CONCAT(:searchQuery, '%') OR " +
+            "LOWER(u.lastName) LIKE CONCAT(:searchQuery, '%') OR " +
+            "LOWER(u.universityId) LIKE CONCAT(:searchQuery, '%') THEN 0 ELSE 1 END, u.firstName, u.lastName"
+    )
+    List<UserSuggestionRow> findUserSuggestions(
+            @Param("searchQuery") String searchQuery,
+            @Param("groups") Set<String> groups,
+            Pageable page
+    );
 }
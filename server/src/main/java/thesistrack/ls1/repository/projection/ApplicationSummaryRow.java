@@ -0,0 +1,24 @@
+package thesistrack.ls1.repository.projection;
+
+import thesistrack.ls1.constants.ApplicationState;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ApplicationSummaryRow(
+        UUID applicationId,
+        ApplicationState state,
+        String thesisTitle,
+        String thesisType,
+        Instant desiredStartDate,
+        Instant createdAt,
+        Instant reviewedAt,
+        UUID userId,
+        String universityId,
+        String firstName,
+        String lastName,
+        String avatar,
+        String gravatarHash,
+        UUID topicId,
+        String topicTitle
+) { }
@@ -0,0 +1,9 @@
+package thesistrack.ls1.repository.projection;
+
+public interface FacetCount {
+    String getFacet();
+
+    String getValue();
+
+    Long getCount();
+}
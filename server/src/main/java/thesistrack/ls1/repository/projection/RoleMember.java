@@ -0,0 +1,16 @@
+package thesistrack.ls1.repository.projection;
+
+import thesistrack.ls1.constants.ThesisRoleName;
+
+import java.util.UUID;
+
+public record RoleMember(
+        UUID parentId,
+        ThesisRoleName role,
+        UUID userId,
+        String universityId,
+        String firstName,
+        String lastName,
+        String avatar,
+        String gravatarHash
+) { }
@@ -0,0 +1,5 @@
+package thesistrack.ls1.repository.projection;
+
+import java.util.UUID;
+
+public record ThesisStudentName(UUID thesisId, String firstName, String lastName) { }
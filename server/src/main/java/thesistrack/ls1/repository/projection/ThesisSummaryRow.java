@@ -0,0 +1,19 @@
+package thesistrack.ls1.repository.projection;
+
+import thesistrack.ls1.constants.ThesisState;
+import thesistrack.ls1.constants.ThesisVisibility;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ThesisSummaryRow(
+        UUID thesisId,
+        String title,
+        String type,
+        String language,
+        ThesisVisibility visibility,
+        ThesisState state,
+        Instant startDate,
+        Instant endDate,
+        Instant createdAt
+) { }
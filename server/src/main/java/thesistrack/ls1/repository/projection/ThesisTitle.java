@@ -0,0 +1,9 @@
+package thesistrack.ls1.repository.projection;
+
+import java.util.UUID;
+
+public interface ThesisTitle {
+    UUID getThesisId();
+
+    String getTitle();
+}
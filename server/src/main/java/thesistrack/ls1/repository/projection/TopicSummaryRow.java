@@ -0,0 +1,13 @@
+package thesistrack.ls1.repository.projection;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+public record TopicSummaryRow(
+        UUID topicId,
+        String title,
+        Set<String> thesisTypes,
+        Instant closedAt,
+        Instant createdAt
+) { }
@@ -0,0 +1,12 @@
+package thesistrack.ls1.repository.projection;
+
+import java.util.UUID;
+
+public record UserSuggestionRow(
+        UUID userId,
+        String universityId,
+        String firstName,
+        String lastName,
+        String avatar,
+        String gravatarHash
+) { }
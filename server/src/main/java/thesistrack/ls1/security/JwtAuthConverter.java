@@ -1,5 +1,9 @@
 package thesistrack.ls1.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
@@ -11,30 +15,69 @@ import org.springframework.security.oauth2.server.resource.authentication.JwtAut
 import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @Component
 public class JwtAuthConverter implements Converter<Jwt, AbstractAuthenticationToken> {
+    private static final Duration MAX_CACHE_DURATION = Duration.ofMinutes(5);
+    private static final long MAX_CACHE_SIZE = 10_000;
+
     private final JwtGrantedAuthoritiesConverter jwtGrantedAuthoritiesConverter;
     private final JwtAuthConfig config;
 
+    // keyed by jti, entries never outlive the token they were created for
+    private final Cache<String, CachedAuthorities> authoritiesCache = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHE_SIZE)
+            .expireAfter(new TokenExpiry())
+            .build();
+
+    @Autowired
     public JwtAuthConverter(JwtAuthConfig config) {
+        this(config, new JwtGrantedAuthoritiesConverter());
+    }
+
+    JwtAuthConverter(JwtAuthConfig config, JwtGrantedAuthoritiesConverter jwtGrantedAuthoritiesConverter) {
         this.config = config;
-        this.jwtGrantedAuthoritiesConverter = new JwtGrantedAuthoritiesConverter();
+        this.jwtGrantedAuthoritiesConverter = jwtGrantedAuthoritiesConverter;
     }
 
     @Override
     @Nullable
     public AbstractAuthenticationToken convert(@NonNull Jwt jwt) {
-        Collection<GrantedAuthority> authorities = Stream.concat(
-                jwtGrantedAuthoritiesConverter.convert(jwt).stream(),
-                extractResourceRoles(jwt).stream()).collect(Collectors.toSet());
+        // the authentication token itself is not shared because the filter chain sets request details on it
+        return new JwtAuthenticationToken(jwt, getAuthorities(jwt), jwt.getClaim("preferred_username"));
+    }
+
+    private Collection<GrantedAuthority> getAuthorities(Jwt jwt) {
+        String tokenId = jwt.getId();
 
-        return new JwtAuthenticationToken(jwt, authorities, jwt.getClaim("preferred_username"));
+        if (tokenId == null || jwt.getExpiresAt() == null) {
+            return convertAuthorities(jwt);
+        }
+
+        CachedAuthorities cached = authoritiesCache.getIfPresent(tokenId);
+
+        if (cached != null && cached.tokenValue().equals(jwt.getTokenValue())) {
+            return cached.authorities();
+        }
+
+        Collection<GrantedAuthority> authorities = convertAuthorities(jwt);
+        authoritiesCache.put(tokenId, new CachedAuthorities(jwt.getTokenValue(), jwt.getExpiresAt(), authorities));
+
+        return authorities;
+    }
+
+    private Collection<GrantedAuthority> convertAuthorities(Jwt jwt) {
+        Set<GrantedAuthority> authorities = new HashSet<>(jwtGrantedAuthoritiesConverter.convert(jwt));
+        authorities.addAll(extractResourceRoles(jwt));
+
+        return Set.copyOf(authorities);
     }
 
     private Collection<? extends GrantedAuthority> extractResourceRoles(Jwt jwt) {
@@ -61,4 +104,29 @@ public class JwtAuthConverter implements Converter<Jwt, AbstractAuthenticationTo
                 .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
                 .collect(Collectors.toSet());
     }
+
+    private record CachedAuthorities(String tokenValue, Instant expiresAt, Collection<GrantedAuthority> authorities) {}
+
+    private static class TokenExpiry implements Expiry<String, CachedAuthorities> {
+        @Override
+        public long expireAfterCreate(String key, CachedAuthorities value, long currentTime) {
+            Duration remaining = Duration.between(Instant.now(), value.expiresAt());
+
+            if (remaining.isNegative()) {
+                return 0;
+            }
+
+            return remaining.compareTo(MAX_CACHE_DURATION) < 0 ? remaining.toNanos() : MAX_CACHE_DURATION.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedAuthorities value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedAuthorities value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
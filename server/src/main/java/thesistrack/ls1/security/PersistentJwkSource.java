@@ -0,0 +1,178 @@
+package thesistrack.ls1.security;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Key source for the resource server that keeps the last known keycloak key set on disk, so that tokens can be
+ * validated right after a restart without waiting for keycloak. The set is refreshed in the background and
+ * whenever a token references an unknown key id.
+ */
+@Component
+@Profile("!test")
+public class PersistentJwkSource implements JWKSource<SecurityContext> {
+    private static final Logger log = LoggerFactory.getLogger(PersistentJwkSource.class);
+
+    private static final Duration FETCH_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration MIN_ROTATION_INTERVAL = Duration.ofSeconds(30);
+
+    private final WebClient webClient;
+    private final String jwkSetUri;
+    private final Path cacheLocation;
+
+    private final AtomicReference<CompletableFuture<JWKSet>> pendingRefresh = new AtomicReference<>();
+
+    private volatile JWKSet jwkSet;
+    private volatile Instant lastRefresh = Instant.MIN;
+
+    @Autowired
+    public PersistentJwkSource(
+            @Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri}") String jwkSetUri,
+            @Value("${thesis-track.keycloak.jwks.cache-location}") String cacheLocation,
+            @Value("${thesis-track.storage.upload-location}") String uploadLocation
+    ) {
+        this.webClient = WebClient.builder().build();
+        this.jwkSetUri = jwkSetUri;
+        this.cacheLocation = Path.of(cacheLocation);
+
+        Path uploadFolder = Path.of(uploadLocation).toAbsolutePath().normalize();
+
+        if (this.cacheLocation.toAbsolutePath().normalize().startsWith(uploadFolder)) {
+            throw new IllegalStateException("JWK set cache location " + cacheLocation + " must not be inside the upload folder " + uploadLocation);
+        }
+
+        this.jwkSet = loadCachedKeys();
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) throws KeySourceException {
+        JWKSet currentKeys = jwkSet;
+
+        if (currentKeys != null) {
+            List<JWK> keys = jwkSelector.select(currentKeys);
+
+            if (!keys.isEmpty() || Instant.now().isBefore(lastRefresh.plus(MIN_ROTATION_INTERVAL))) {
+                return keys;
+            }
+        }
+
+        // unknown key id or nothing cached yet, concurrent requests wait for the same fetch
+        try {
+            return jwkSelector.select(refresh());
+        } catch (RuntimeException exception) {
+            if (currentKeys == null) {
+                throw new KeySourceException("Could not fetch JWK set from " + jwkSetUri, exception);
+            }
+
+            log.warn("Could not refresh JWK set, continuing with cached keys", exception);
+
+            return List.of();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${thesis-track.keycloak.jwks.refresh-interval}")
+    public void refreshInBackground() {
+        try {
+            refresh();
+        } catch (RuntimeException exception) {
+            log.warn("Could not refresh JWK set in background", exception);
+        }
+    }
+
+    private JWKSet refresh() {
+        CompletableFuture<JWKSet> future = new CompletableFuture<>();
+        CompletableFuture<JWKSet> runningRefresh = pendingRefresh.compareAndExchange(null, future);
+
+        if (runningRefresh != null) {
+            try {
+                return runningRefresh.join();
+            } catch (CompletionException exception) {
+                throw new IllegalStateException("Could not fetch JWK set", exception.getCause());
+            }
+        }
+
+        try {
+            JWKSet fetchedKeys = fetchKeys();
+
+            jwkSet = fetchedKeys;
+            lastRefresh = Instant.now();
+            future.complete(fetchedKeys);
+
+            storeCachedKeys(fetchedKeys);
+
+            return fetchedKeys;
+        } catch (RuntimeException exception) {
+            lastRefresh = Instant.now();
+            future.completeExceptionally(exception);
+
+            throw exception;
+        } finally {
+            pendingRefresh.set(null);
+        }
+    }
+
+    private JWKSet fetchKeys() {
+        String response = webClient.get()
+                .uri(jwkSetUri)
+                .retrieve()
+                .bodyToMono(String.class)
+                .block(FETCH_TIMEOUT);
+
+        try {
+            return JWKSet.parse(response);
+        } catch (ParseException | NullPointerException exception) {
+            throw new IllegalStateException("Received invalid JWK set from " + jwkSetUri, exception);
+        }
+    }
+
+    private JWKSet loadCachedKeys() {
+        if (!Files.isRegularFile(cacheLocation)) {
+            return null;
+        }
+
+        try {
+            return JWKSet.parse(Files.readString(cacheLocation));
+        } catch (IOException | ParseException exception) {
+            log.warn("Could not load cached JWK set from {}", cacheLocation, exception);
+
+            return null;
+        }
+    }
+
+    private void storeCachedKeys(JWKSet keys) {
+        try {
+            Path parent = cacheLocation.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+
+            Path temporaryFile = Files.createTempFile(parent, "jwks", ".tmp");
+            Files.writeString(temporaryFile, keys.toString(true));
+            Files.move(temporaryFile, cacheLocation, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException exception) {
+            log.warn("Could not store JWK set at {}", cacheLocation, exception);
+        }
+    }
+}
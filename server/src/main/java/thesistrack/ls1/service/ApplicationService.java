@@ -1,13 +1,20 @@
 package thesistrack.ls1.service;
 
+import jakarta.persistence.EntityManager;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import thesistrack.ls1.config.ReadFromReplica;
 import thesistrack.ls1.constants.ApplicationRejectReason;
 import thesistrack.ls1.constants.ApplicationReviewReason;
+import thesistrack.ls1.dto.ApplicationStateDto;
+import thesistrack.ls1.dto.ApplicationSummaryDto;
 import thesistrack.ls1.entity.*;
 import thesistrack.ls1.constants.ApplicationState;
 import thesistrack.ls1.entity.key.ApplicationReviewerId;
@@ -16,9 +23,16 @@ import thesistrack.ls1.exception.request.ResourceNotFoundException;
 import thesistrack.ls1.repository.ApplicationRepository;
 import thesistrack.ls1.repository.ApplicationReviewerRepository;
 import thesistrack.ls1.repository.TopicRepository;
+import thesistrack.ls1.repository.projection.ApplicationSummaryRow;
+import thesistrack.ls1.repository.projection.FacetCount;
+import thesistrack.ls1.utility.CursorHelper;
+import thesistrack.ls1.utility.HibernateHelper;
+import thesistrack.ls1.utility.PaginationHelper;
+import thesistrack.ls1.utility.SearchHelper;
 
 import java.time.Instant;
 import java.util.*;
+import java.util.function.Function;
 
 @Service
 public class ApplicationService {
@@ -28,6 +42,7 @@ public class ApplicationService {
     private final ThesisService thesisService;
     private final TopicService topicService;
     private final ApplicationReviewerRepository applicationReviewerRepository;
+    private final EntityManager entityManager;
 
     @Autowired
     public ApplicationService(
@@ -36,40 +51,173 @@ public class ApplicationService {
             TopicRepository topicRepository,
             ThesisService thesisService,
             TopicService topicService,
-            ApplicationReviewerRepository applicationReviewerRepository) {
+            ApplicationReviewerRepository applicationReviewerRepository,
+            EntityManager entityManager) {
         this.applicationRepository = applicationRepository;
         this.mailingService = mailingService;
         this.topicRepository = topicRepository;
         this.thesisService = thesisService;
         this.topicService = topicService;
         this.applicationReviewerRepository = applicationReviewerRepository;
+        this.entityManager = entityManager;
     }
 
-    public Page<Application> getAll(
+    @ReadFromReplica
+    public Slice<Application> getAll(
             UUID userId,
             UUID reviewerId,
             String searchQuery,
             ApplicationState[] states,
-            String[] previous,
-            String[] topics,
+            UUID[] previous,
+            UUID[] topics,
             String[] types,
             boolean includeSuggestedTopics,
             int page,
             int limit,
+            boolean withTotal,
             String sortBy,
             String sortOrder
     ) {
-        Sort.Order order = new Sort.Order(sortOrder.equals("asc") ? Sort.Direction.ASC : Sort.Direction.DESC, sortBy);
+        return search(
+                userId,
+                reviewerId,
+                searchQuery,
+                states,
+                previous,
+                topics,
+                types,
+                includeSuggestedTopics,
+                page,
+                limit,
+                withTotal,
+                sortBy,
+                sortOrder,
+                applicationIds -> HibernateHelper.findAllInOrder(applicationIds, applicationRepository::findAllByIdIn, Application::getId)
+        );
+    }
+
+    /**
+     * Same as getAll, but builds read-only summaries from a projection instead of loading managed entities
+     */
+    @ReadFromReplica
+    public Slice<ApplicationSummaryDto> getAllSummaries(
+            UUID userId,
+            UUID reviewerId,
+            String searchQuery,
+            ApplicationState[] states,
+            UUID[] previous,
+            UUID[] topics,
+            String[] types,
+            boolean includeSuggestedTopics,
+            int page,
+            int limit,
+            boolean withTotal,
+            String sortBy,
+            String sortOrder
+    ) {
+        return search(
+                userId,
+                reviewerId,
+                searchQuery,
+                states,
+                previous,
+                topics,
+                types,
+                includeSuggestedTopics,
+                page,
+                limit,
+                withTotal,
+                sortBy,
+                sortOrder,
+                applicationIds -> HibernateHelper.findAllInOrder(applicationIds, applicationRepository::findSummariesByIdIn, ApplicationSummaryRow::applicationId)
+                        .stream()
+                        .map(ApplicationSummaryDto::fromSummaryRow)
+                        .toList()
+        );
+    }
+
+    @ReadFromReplica
+    public Slice<Application> getAllAfterCursor(
+            UUID userId,
+            UUID reviewerId,
+            String searchQuery,
+            ApplicationState[] states,
+            UUID[] previous,
+            UUID[] topics,
+            String[] types,
+            boolean includeSuggestedTopics,
+            String cursor,
+            int limit,
+            String sortBy,
+            String sortOrder
+    ) {
+        if (!sortBy.equals("createdAt")) {
+            throw new ResourceInvalidParametersException("Cursor pagination is only supported when sorting by createdAt");
+        }
+
+        CursorHelper.Cursor position = CursorHelper.decode(cursor);
+        boolean ascending = sortOrder.equals("asc");
+
+        String searchQueryFilter = SearchHelper.normalizeSearchQuery(searchQuery);
+        String[] statesFilter = states == null || states.length == 0 ? null : Arrays.stream(states).map(ApplicationState::name).toArray(String[]::new);
+        UUID[] topicsFilter = topics == null || topics.length == 0 ? null : topics;
+        String[] typesFilter = types == null || types.length == 0 ? null : types;
+        UUID[] previousFilter = previous == null || previous.length == 0 ? null : previous;
+        UUID reviewerFilter = statesFilter != null && !Arrays.asList(states).contains(ApplicationState.REJECTED) ? reviewerId : null;
+
+        Slice<UUID> applicationIds = applicationRepository.searchApplicationIdsAfterCursor(
+                userId,
+                reviewerFilter,
+                searchQueryFilter,
+                statesFilter,
+                previousFilter,
+                topicsFilter,
+                typesFilter,
+                includeSuggestedTopics,
+                position == null ? null : position.sortValue(),
+                position == null ? null : position.id(),
+                ascending,
+                PageRequest.of(0, limit, Sort.by(ascending ? Sort.Direction.ASC : Sort.Direction.DESC, "created_at", "application_id"))
+        );
+
+        return new SliceImpl<>(
+                HibernateHelper.findAllInOrder(applicationIds.getContent(), applicationRepository::findAllByIdIn, Application::getId),
+                applicationIds.getPageable(),
+                applicationIds.hasNext()
+        );
+    }
+
+    private <T> Slice<T> search(
+            UUID userId,
+            UUID reviewerId,
+            String searchQuery,
+            ApplicationState[] states,
+            UUID[] previous,
+            UUID[] topics,
+            String[] types,
+            boolean includeSuggestedTopics,
+            int page,
+            int limit,
+            boolean withTotal,
+            String sortBy,
+            String sortOrder,
+            Function<List<UUID>, List<T>> loader
+    ) {
+        Sort.Order order = new Sort.Order(
+                sortOrder.equals("asc") ? Sort.Direction.ASC : Sort.Direction.DESC,
+                HibernateHelper.getColumnName(Application.class, sortBy)
+        );
 
-        String searchQueryFilter = searchQuery == null || searchQuery.isEmpty() ? null : searchQuery.toLowerCase();
-        Set<ApplicationState> statesFilter = states == null || states.length == 0 ? null : new HashSet<>(Arrays.asList(states));
-        Set<String> topicsFilter = topics == null || topics.length == 0 ? null : new HashSet<>(Arrays.asList(topics));
-        Set<String> typesFilter = types == null || types.length == 0 ? null : new HashSet<>(Arrays.asList(types));
-        Set<String> previousFilter = previous == null || previous.length == 0 ? null : new HashSet<>(Arrays.asList(previous));
+        String searchQueryFilter = SearchHelper.normalizeSearchQuery(searchQuery);
+        String[] statesFilter = states == null || states.length == 0 ? null : Arrays.stream(states).map(ApplicationState::name).toArray(String[]::new);
+        UUID[] topicsFilter = topics == null || topics.length == 0 ? null : topics;
+        String[] typesFilter = types == null || types.length == 0 ? null : types;
+        UUID[] previousFilter = previous == null || previous.length == 0 ? null : previous;
+        UUID reviewerFilter = statesFilter != null && !Arrays.asList(states).contains(ApplicationState.REJECTED) ? reviewerId : null;
 
-        return applicationRepository.searchApplications(
+        Slice<UUID> applicationIds = applicationRepository.searchApplicationIds(
                 userId,
-                statesFilter != null && !statesFilter.contains(ApplicationState.REJECTED) ? reviewerId : null,
+                reviewerFilter,
                 searchQueryFilter,
                 statesFilter,
                 previousFilter,
@@ -78,6 +226,51 @@ public class ApplicationService {
                 includeSuggestedTopics,
                 PageRequest.of(page, limit, Sort.by(order))
         );
+
+        return PaginationHelper.toSlice(
+                loader.apply(applicationIds.getContent()),
+                applicationIds,
+                withTotal,
+                () -> applicationRepository.countApplications(
+                        userId,
+                        reviewerFilter,
+                        searchQueryFilter,
+                        statesFilter,
+                        previousFilter,
+                        topicsFilter,
+                        typesFilter,
+                        includeSuggestedTopics
+                )
+        );
+    }
+
+    @ReadFromReplica
+    public List<FacetCount> getFacets(
+            UUID userId,
+            UUID reviewerId,
+            String searchQuery,
+            ApplicationState[] states,
+            UUID[] previous,
+            UUID[] topics,
+            String[] types,
+            boolean includeSuggestedTopics
+    ) {
+        String[] statesFilter = states == null || states.length == 0 ? null : Arrays.stream(states).map(ApplicationState::name).toArray(String[]::new);
+        UUID[] topicsFilter = topics == null || topics.length == 0 ? null : topics;
+        String[] typesFilter = types == null || types.length == 0 ? null : types;
+        UUID[] previousFilter = previous == null || previous.length == 0 ? null : previous;
+        UUID reviewerFilter = statesFilter != null && !Arrays.asList(states).contains(ApplicationState.REJECTED) ? reviewerId : null;
+
+        return applicationRepository.countApplicationFacets(
+                userId,
+                reviewerFilter,
+                SearchHelper.normalizeSearchQuery(searchQuery),
+                statesFilter,
+                previousFilter,
+                topicsFilter,
+                typesFilter,
+                includeSuggestedTopics
+        );
     }
 
     @Transactional
@@ -173,38 +366,37 @@ public class ApplicationService {
     }
 
     @Transactional
-    public List<Application> reject(User reviewingUser, Application application, ApplicationRejectReason reason, boolean notifyUser) {
+    public List<ApplicationStateDto> reject(User reviewingUser, Application application, ApplicationRejectReason reason, boolean notifyUser) {
+        Instant reviewedAt = Instant.now();
+
         application.setState(ApplicationState.REJECTED);
         application.setRejectReason(reason);
-        application.setReviewedAt(Instant.now());
+        application.setReviewedAt(reviewedAt);
 
         application = reviewApplication(application, reviewingUser, ApplicationReviewReason.NOT_INTERESTED);
 
-        List<Application> result = new ArrayList<>();
+        Application rejectedApplication = applicationRepository.save(application);
 
-        if (reason == ApplicationRejectReason.FAILED_STUDENT_REQUIREMENTS) {
-            List<Application> applications = applicationRepository.findAllByUser(application.getUser());
+        List<UUID> applicationIds = new ArrayList<>();
+        applicationIds.add(rejectedApplication.getId());
 
-            for (Application item : applications) {
-                if (item.getState() == ApplicationState.NOT_ASSESSED) {
-                    item.setState(ApplicationState.REJECTED);
-                    item.setRejectReason(reason);
-                    item.setReviewedAt(Instant.now());
+        if (reason == ApplicationRejectReason.FAILED_STUDENT_REQUIREMENTS) {
+            List<UUID> pendingApplicationIds = applicationRepository.rejectPendingApplicationsForUser(
+                    rejectedApplication.getUser().getId(),
+                    reason.name(),
+                    reviewedAt
+            );
 
-                    item = reviewApplication(item, reviewingUser, ApplicationReviewReason.NOT_INTERESTED);
+            addRejectionReviews(pendingApplicationIds, reviewingUser, reviewedAt);
 
-                    result.add(applicationRepository.save(item));
-                }
-            }
+            applicationIds.addAll(pendingApplicationIds.stream().filter(id -> !id.equals(rejectedApplication.getId())).toList());
         }
 
         if (notifyUser) {
-            mailingService.sendApplicationRejectionEmail(application, reason);
+            runAfterCommit(() -> mailingService.sendApplicationRejectionEmail(rejectedApplication, reason));
         }
 
-        result.add(applicationRepository.save(application));
-
-        return result;
+        return applicationIds.stream().map(id -> new ApplicationStateDto(id, ApplicationState.REJECTED, reason, reviewedAt)).toList();
     }
 
     @Transactional
@@ -218,18 +410,45 @@ public class ApplicationService {
 
     @Transactional
     public List<Application> rejectApplicationsForTopic(User closer, Topic topic, ApplicationRejectReason reason, boolean notifyUser) {
-        List<Application> applications = applicationRepository.findAllByTopic(topic);
-        List<Application> result = new ArrayList<>();
+        Instant reviewedAt = Instant.now();
 
-        for (Application application : applications) {
-            if (application.getState() != ApplicationState.NOT_ASSESSED) {
-                continue;
-            }
+        // the set-based updates bypass the persistence context, so pending changes have to reach the database first
+        entityManager.flush();
+
+        List<UUID> topicApplicationIds = applicationRepository.rejectPendingApplicationsForTopic(topic.getId(), reason.name(), reviewedAt);
 
-            result.addAll(reject(closer, application, reason, notifyUser));
+        if (topicApplicationIds.isEmpty()) {
+            return new ArrayList<>();
         }
 
-        return result;
+        List<UUID> applicationIds = new ArrayList<>(topicApplicationIds);
+
+        if (reason == ApplicationRejectReason.FAILED_STUDENT_REQUIREMENTS) {
+            applicationIds.addAll(applicationRepository.rejectPendingApplicationsForApplicants(
+                    topicApplicationIds.toArray(UUID[]::new),
+                    reason.name(),
+                    reviewedAt
+            ));
+        }
+
+        addRejectionReviews(applicationIds, closer, reviewedAt);
+        detachApplications(applicationIds);
+
+        List<Application> applications = applicationRepository.findAllByIdIn(applicationIds);
+
+        if (notifyUser) {
+            Set<UUID> notifiedApplicationIds = new HashSet<>(topicApplicationIds);
+
+            runAfterCommit(() -> {
+                for (Application application : applications) {
+                    if (notifiedApplicationIds.contains(application.getId())) {
+                        mailingService.sendApplicationRejectionEmail(application, reason);
+                    }
+                }
+            });
+        }
+
+        return new ArrayList<>(applications);
     }
 
     @Transactional
@@ -280,4 +499,45 @@ public class ApplicationService {
         return applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new ResourceNotFoundException(String.format("Application with id %s not found.", applicationId)));
     }
+
+    private void addRejectionReviews(List<UUID> applicationIds, User reviewer, Instant reviewedAt) {
+        if (applicationIds.isEmpty()) {
+            return;
+        }
+
+        applicationReviewerRepository.upsertReviews(
+                applicationIds.toArray(UUID[]::new),
+                reviewer.getId(),
+                ApplicationReviewReason.NOT_INTERESTED.name(),
+                reviewedAt
+        );
+    }
+
+    /**
+     * Drops already loaded applications from the persistence context so that reloading them
+     * returns the state written by the set-based updates instead of the cached instances.
+     */
+    private void detachApplications(List<UUID> applicationIds) {
+        for (UUID applicationId : applicationIds) {
+            entityManager.detach(entityManager.getReference(Application.class, applicationId));
+        }
+    }
+
+    /**
+     * Defers the action until the surrounding transaction committed so that slow work like sending mails
+     * does not keep the transaction open and is skipped if the transaction rolls back.
+     */
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 }
@@ -3,10 +3,12 @@ package thesistrack.ls1.service;
 import jakarta.mail.internet.AddressException;
 import jakarta.mail.internet.InternetAddress;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import thesistrack.ls1.config.CacheConfig;
 import thesistrack.ls1.constants.UploadFileType;
 import thesistrack.ls1.entity.NotificationSetting;
 import thesistrack.ls1.entity.User;
@@ -18,8 +20,12 @@ import thesistrack.ls1.repository.NotificationSettingRepository;
 import thesistrack.ls1.repository.UserGroupRepository;
 import thesistrack.ls1.repository.UserRepository;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 public class AuthenticationService {
@@ -36,12 +42,18 @@ public class AuthenticationService {
         this.notificationSettingRepository = notificationSettingRepository;
     }
 
+    /**
+     * Only the id of the user is cached. The entity itself is resolved through the second level cache,
+     * so the returned user is always attached to the current persistence context.
+     */
     public User getAuthenticatedUser(JwtAuthenticationToken jwt) {
-        return userRepository.findByUniversityId(getUniversityId(jwt))
+        return userRepository.findIdByUniversityId(getUniversityId(jwt))
+                .flatMap(userRepository::findById)
                 .orElseThrow(() -> new ResourceNotFoundException("Authenticated user not found"));
     }
 
     @Transactional
+    @CacheEvict(value = CacheConfig.AUTHENTICATED_USERS, key = "#jwt.name")
     public User updateAuthenticatedUser(JwtAuthenticationToken jwt) {
         Map<String, Object> attributes = jwt.getTokenAttributes();
         String universityId = getUniversityId(jwt);
@@ -50,11 +62,19 @@ public class AuthenticationService {
         String firstName = (String) attributes.get("given_name");
         String lastName = (String) attributes.get("family_name");
 
-        List<String> groups = jwt.getAuthorities().stream()
+        Set<String> groups = jwt.getAuthorities().stream()
                 .filter(authority -> authority.getAuthority().startsWith("ROLE_"))
-                .map(authority -> authority.getAuthority().replace("ROLE_", "")).toList();
+                .map(authority -> authority.getAuthority().replace("ROLE_", ""))
+                .collect(Collectors.toSet());
 
-        User user = userRepository.findByUniversityId(universityId).orElseGet(() -> {
+        String claimsFingerprint = createClaimsFingerprint(email, firstName, lastName, groups);
+        Optional<User> existingUser = userRepository.findByUniversityId(universityId);
+
+        if (existingUser.isPresent() && claimsFingerprint.equals(existingUser.get().getClaimsFingerprint())) {
+            return existingUser.get();
+        }
+
+        User user = existingUser.orElseGet(() -> {
             User newUser = new User();
             Instant currentTime = Instant.now();
 
@@ -78,28 +98,13 @@ public class AuthenticationService {
             user.setLastName(lastName);
         }
 
-        user = userRepository.save(user);
-
-        userGroupRepository.deleteByUserId(user.getId());
-
-        Set<UserGroup> userGroups = new HashSet<>();
-
-        for (String group : groups) {
-            UserGroup entity = new UserGroup();
-            UserGroupId entityId = new UserGroupId();
-
-            entityId.setUserId(user.getId());
-            entityId.setGroup(group);
+        user.setClaimsFingerprint(claimsFingerprint);
 
-            entity.setUser(user);
-            entity.setId(entityId);
-
-            userGroups.add(userGroupRepository.save(entity));
-        }
+        user = userRepository.save(user);
 
-        user.setGroups(userGroups);
+        syncUserGroups(user, groups);
 
-        return userRepository.save(user);
+        return user;
     }
 
     public User updateUserInformation(
@@ -144,6 +149,9 @@ public class AuthenticationService {
         user.setCvFilename(cv == null ? null : uploadService.store(cv, 3 * 1024 * 1024, UploadFileType.PDF));
         user.setDegreeFilename(degreeReport == null ? null : uploadService.store(degreeReport, 3 * 1024 * 1024, UploadFileType.PDF));
 
+        // the next token sync has to apply the claims again because the user might have changed them
+        user.setClaimsFingerprint(null);
+
         return userRepository.save(user);
     }
 
@@ -183,6 +191,54 @@ public class AuthenticationService {
         return settings;
     }
 
+    private void syncUserGroups(User user, Set<String> groups) {
+        Set<UserGroup> currentGroups = user.getGroups();
+        Set<String> currentGroupNames = currentGroups.stream()
+                .map(group -> group.getId().getGroup())
+                .collect(Collectors.toSet());
+
+        List<UserGroup> removedGroups = currentGroups.stream()
+                .filter(group -> !groups.contains(group.getId().getGroup()))
+                .toList();
+
+        List<UserGroup> addedGroups = groups.stream()
+                .filter(group -> !currentGroupNames.contains(group))
+                .map(group -> createUserGroup(user, group))
+                .toList();
+
+        if (!removedGroups.isEmpty()) {
+            userGroupRepository.deleteAll(removedGroups);
+            removedGroups.forEach(currentGroups::remove);
+        }
+
+        if (!addedGroups.isEmpty()) {
+            userGroupRepository.saveAll(addedGroups);
+            currentGroups.addAll(addedGroups);
+        }
+    }
+
+    private UserGroup createUserGroup(User user, String group) {
+        UserGroupId entityId = new UserGroupId();
+        entityId.setUserId(user.getId());
+        entityId.setGroup(group);
+
+        UserGroup entity = new UserGroup();
+        entity.setUser(user);
+        entity.setId(entityId);
+
+        return entity;
+    }
+
+    private String createClaimsFingerprint(String email, String firstName, String lastName, Set<String> groups) {
+        String claims = String.join("\n", Objects.toString(email, ""), Objects.toString(firstName, ""), Objects.toString(lastName, ""), String.join(",", new TreeSet<>(groups)));
+
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(claims.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not available", exception);
+        }
+    }
+
     private String getUniversityId(JwtAuthenticationToken jwt) {
         return jwt.getName();
     }
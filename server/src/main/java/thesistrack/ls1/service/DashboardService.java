@@ -5,6 +5,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import thesistrack.ls1.constants.ThesisPresentationState;
 import thesistrack.ls1.constants.ThesisPresentationVisibility;
 import thesistrack.ls1.constants.ThesisRoleName;
@@ -44,6 +45,7 @@ public class DashboardService {
         this.scientificWritingGuide = scientificWritingGuide;
     }
 
+    @Transactional(readOnly = true)
     public List<TaskDto> getTasks(User user) {
         List<TaskDto> tasks = new ArrayList<>();
 
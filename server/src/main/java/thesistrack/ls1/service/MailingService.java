@@ -10,6 +10,7 @@ import thesistrack.ls1.constants.ApplicationRejectReason;
 import thesistrack.ls1.constants.ThesisFeedbackType;
 import thesistrack.ls1.constants.ThesisPresentationVisibility;
 import thesistrack.ls1.entity.*;
+import thesistrack.ls1.repository.ThesisRepository;
 import thesistrack.ls1.utility.DataFormatter;
 import thesistrack.ls1.utility.MailBuilder;
 import thesistrack.ls1.utility.MailConfig;
@@ -22,16 +23,19 @@ public class MailingService {
     private final JavaMailSender javaMailSender;
     private final UploadService uploadService;
     private final MailConfig config;
+    private final ThesisRepository thesisRepository;
 
     @Autowired
     public MailingService(
             JavaMailSender javaMailSender,
             UploadService uploadService,
-            MailConfig config
+            MailConfig config,
+            ThesisRepository thesisRepository
     ) {
         this.javaMailSender = javaMailSender;
         this.uploadService = uploadService;
         this.config = config;
+        this.thesisRepository = thesisRepository;
     }
 
     public void sendApplicationCreatedEmail(Application application) {
@@ -96,6 +100,8 @@ public class MailingService {
     }
 
     public void sendThesisCreatedEmail(User creatingUser, Thesis thesis) {
+        thesis = loadMailRecipients(thesis);
+
         MailBuilder builder = new MailBuilder(config, "Thesis Created", "thesis-created");
         builder
                 .sendToThesisStudents(thesis)
@@ -107,6 +113,8 @@ public class MailingService {
     }
 
     public void sendThesisClosedEmail(User deletingUser, Thesis thesis) {
+        thesis = loadMailRecipients(thesis);
+
         MailBuilder builder = new MailBuilder(config, "Thesis Closed", "thesis-closed");
         builder
                 .sendToThesisStudents(thesis)
@@ -140,6 +148,8 @@ public class MailingService {
     }
 
     public void sendProposalChangeRequestEmail(User reviewingUser, Thesis thesis) {
+        thesis = loadMailRecipients(thesis);
+
         MailBuilder builder = new MailBuilder(
                 config,
                 "Changes were requested for Proposal",
@@ -253,6 +263,8 @@ public class MailingService {
     }
 
     public void sendFinalSubmissionEmail(Thesis thesis) {
+        thesis = loadMailRecipients(thesis);
+
         MailBuilder builder = new MailBuilder(config, "Thesis Submitted", "thesis-final-submission");
         builder
                 .sendToThesisAdvisors(thesis)
@@ -274,6 +286,8 @@ public class MailingService {
     }
 
     public void sendFinalGradeEmail(Thesis thesis) {
+        thesis = loadMailRecipients(thesis);
+
         MailBuilder builder = new MailBuilder(config, "Final Grade available for Thesis", "thesis-final-grade");
         builder
                 .sendToThesisStudents(thesis)
@@ -282,6 +296,13 @@ public class MailingService {
                 .send(javaMailSender, uploadService);
     }
 
+    /**
+     * Reloads the thesis with its members and their groups because the collections are fetched lazily
+     */
+    private Thesis loadMailRecipients(Thesis thesis) {
+        return thesisRepository.findMailById(thesis.getId()).orElse(thesis);
+    }
+
     private String getUserFilename(User user, String name, String originalFilename) {
         StringBuilder builder = new StringBuilder();
 
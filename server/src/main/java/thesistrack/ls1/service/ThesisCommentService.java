@@ -1,8 +1,8 @@
 package thesistrack.ls1.service;
 
 import org.springframework.core.io.Resource;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,6 +14,7 @@ import thesistrack.ls1.entity.ThesisComment;
 import thesistrack.ls1.entity.User;
 import thesistrack.ls1.exception.request.ResourceNotFoundException;
 import thesistrack.ls1.repository.ThesisCommentRepository;
+import thesistrack.ls1.utility.PaginationHelper;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -30,12 +31,19 @@ public class ThesisCommentService {
         this.mailingService = mailingService;
     }
 
-    public Page<ThesisComment> getComments(Thesis thesis, ThesisCommentType commentType, Integer page, Integer limit) {
-        return thesisCommentRepository.searchComments(
+    public Slice<ThesisComment> getComments(Thesis thesis, ThesisCommentType commentType, Integer page, Integer limit, boolean withTotal) {
+        Slice<ThesisComment> comments = thesisCommentRepository.searchComments(
                 thesis.getId(),
                 commentType,
                 PageRequest.of(page, limit)
         );
+
+        return PaginationHelper.toSlice(
+                comments.getContent(),
+                comments,
+                withTotal,
+                () -> thesisCommentRepository.countComments(thesis.getId(), commentType)
+        );
     }
 
     @Transactional
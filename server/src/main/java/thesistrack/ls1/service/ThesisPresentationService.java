@@ -13,6 +13,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import thesistrack.ls1.config.ReadFromReplica;
 import thesistrack.ls1.constants.ThesisPresentationState;
 import thesistrack.ls1.constants.ThesisPresentationType;
 import thesistrack.ls1.constants.ThesisPresentationVisibility;
@@ -62,6 +63,7 @@ public class ThesisPresentationService {
         this.thesisPresentationInviteRepository = thesisPresentationInviteRepository;
     }
 
+    @ReadFromReplica
     public Page<ThesisPresentation> getPublicPresentations(Boolean includeDrafts, Integer page, Integer limit, String sortBy, String sortOrder) {
         Sort.Order order = new Sort.Order(sortOrder.equals("asc") ? Sort.Direction.ASC : Sort.Direction.DESC, sortBy);
 
@@ -73,6 +75,7 @@ public class ThesisPresentationService {
         );
     }
 
+    @ReadFromReplica
     public ThesisPresentation getPublicPresentation(UUID presentationId) {
         ThesisPresentation presentation =  thesisPresentationRepository.findById(presentationId)
                 .orElseThrow(() -> new ResourceNotFoundException(String.format("Presentation with id %s not found.", presentationId)));
@@ -84,6 +87,7 @@ public class ThesisPresentationService {
         return presentation;
     }
 
+    @ReadFromReplica
     public Calendar getPresentationCalendar() {
         Calendar calendar = createEmptyCalendar();
 
@@ -227,21 +231,34 @@ public class ThesisPresentationService {
 
         addresses.addAll(additionalInvites);
 
+        Map<String, ThesisPresentationInvite> existingInvites = new HashMap<>();
+
+        for (ThesisPresentationInvite invite : presentation.getInvites()) {
+            existingInvites.put(invite.getId().getEmail(), invite);
+        }
+
         List<ThesisPresentationInvite> invites = new ArrayList<>();
 
         for (InternetAddress address : addresses) {
-            ThesisPresentationInviteId entityId = new ThesisPresentationInviteId();
-            entityId.setPresentationId(presentation.getId());
-            entityId.setEmail(address.toString());
+            ThesisPresentationInvite entity = existingInvites.get(address.toString());
+
+            if (entity == null) {
+                ThesisPresentationInviteId entityId = new ThesisPresentationInviteId();
+                entityId.setPresentationId(presentation.getId());
+                entityId.setEmail(address.toString());
+
+                entity = new ThesisPresentationInvite();
+                entity.setPresentation(presentation);
+                entity.setId(entityId);
+            }
 
-            ThesisPresentationInvite entity = new ThesisPresentationInvite();
-            entity.setPresentation(presentation);
-            entity.setId(entityId);
             entity.setInvitedAt(Instant.now());
 
-            invites.add(thesisPresentationInviteRepository.save(entity));
+            invites.add(entity);
         }
 
+        thesisPresentationInviteRepository.saveAll(invites);
+
         presentation.setInvites(invites);
         presentation = thesisPresentationRepository.save(presentation);
 
@@ -2,16 +2,20 @@ package thesistrack.ls1.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.core.parameters.P;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import thesistrack.ls1.config.ReadFromReplica;
 import thesistrack.ls1.constants.*;
 import thesistrack.ls1.controller.payload.RequestChangesPayload;
 import thesistrack.ls1.controller.payload.ThesisStatePayload;
+import thesistrack.ls1.dto.ThesisSuggestionDto;
+import thesistrack.ls1.dto.ThesisSummaryDto;
 import thesistrack.ls1.entity.*;
 import thesistrack.ls1.entity.jsonb.ThesisMetadata;
 import thesistrack.ls1.entity.key.ThesisRoleId;
@@ -19,15 +23,28 @@ import thesistrack.ls1.entity.key.ThesisStateChangeId;
 import thesistrack.ls1.exception.request.ResourceInvalidParametersException;
 import thesistrack.ls1.exception.request.ResourceNotFoundException;
 import thesistrack.ls1.repository.*;
+import thesistrack.ls1.repository.projection.FacetCount;
+import thesistrack.ls1.repository.projection.RoleMember;
+import thesistrack.ls1.repository.projection.ThesisStudentName;
+import thesistrack.ls1.repository.projection.ThesisSummaryRow;
+import thesistrack.ls1.repository.projection.ThesisTitle;
+import thesistrack.ls1.utility.CursorHelper;
 import thesistrack.ls1.utility.DataFormatter;
+import thesistrack.ls1.utility.HibernateHelper;
+import thesistrack.ls1.utility.PaginationHelper;
 import thesistrack.ls1.utility.PDFBuilder;
 import thesistrack.ls1.utility.RequestValidator;
+import thesistrack.ls1.utility.SearchHelper;
 
 import java.time.Instant;
 import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @Service
 public class ThesisService {
+    private static final int SUGGESTIONS_LIMIT = 10;
+
     private final ThesisRoleRepository thesisRoleRepository;
     private final ThesisRepository thesisRepository;
     private final ThesisStateChangeRepository thesisStateChangeRepository;
@@ -68,7 +85,8 @@ public class ThesisService {
         this.thesisFileRepository = thesisFileRepository;
     }
 
-    public Page<Thesis> getAll(
+    @ReadFromReplica
+    public Slice<Thesis> getAll(
             UUID userId,
             Set<ThesisVisibility> visibilities,
             String searchQuery,
@@ -76,23 +94,202 @@ public class ThesisService {
             String[] types,
             int page,
             int limit,
+            boolean withTotal,
             String sortBy,
             String sortOrder
     ) {
-        Sort.Order order = new Sort.Order(sortOrder.equals("asc") ? Sort.Direction.ASC : Sort.Direction.DESC, sortBy);
-
-        String searchQueryFilter = searchQuery == null || searchQuery.isEmpty() ? null : searchQuery.toLowerCase();
-        Set<ThesisState> statesFilter = states == null || states.length == 0 ? null : new HashSet<>(Arrays.asList(states));
-        Set<String> typesFilter = types == null || types.length == 0 ? null : new HashSet<>(Arrays.asList(types));
+        return search(
+                userId,
+                visibilities,
+                searchQuery,
+                states,
+                types,
+                page,
+                limit,
+                withTotal,
+                sortBy,
+                sortOrder,
+                thesisIds -> HibernateHelper.findAllInOrder(thesisIds, thesisRepository::findAllByIdIn, Thesis::getId)
+        );
+    }
 
-        return thesisRepository.searchTheses(
+    /**
+     * Same as getAll, but builds read-only summaries from projections instead of loading managed entities
+     */
+    @ReadFromReplica
+    public Slice<ThesisSummaryDto> getAllSummaries(
+            UUID userId,
+            Set<ThesisVisibility> visibilities,
+            String searchQuery,
+            ThesisState[] states,
+            String[] types,
+            int page,
+            int limit,
+            boolean withTotal,
+            String sortBy,
+            String sortOrder
+    ) {
+        return search(
                 userId,
                 visibilities,
+                searchQuery,
+                states,
+                types,
+                page,
+                limit,
+                withTotal,
+                sortBy,
+                sortOrder,
+                this::getSummaries
+        );
+    }
+
+    @ReadFromReplica
+    public Slice<Thesis> getAllAfterCursor(
+            UUID userId,
+            Set<ThesisVisibility> visibilities,
+            String searchQuery,
+            ThesisState[] states,
+            String[] types,
+            String cursor,
+            int limit,
+            String sortBy,
+            String sortOrder
+    ) {
+        if (!sortBy.equals("createdAt")) {
+            throw new ResourceInvalidParametersException("Cursor pagination is only supported when sorting by createdAt");
+        }
+
+        CursorHelper.Cursor position = CursorHelper.decode(cursor);
+        boolean ascending = sortOrder.equals("asc");
+
+        String[] visibilitiesFilter = visibilities == null || visibilities.isEmpty() ? null : visibilities.stream().map(ThesisVisibility::name).toArray(String[]::new);
+        String[] statesFilter = states == null || states.length == 0 ? null : Arrays.stream(states).map(ThesisState::name).toArray(String[]::new);
+        String[] typesFilter = types == null || types.length == 0 ? null : types;
+
+        Slice<UUID> thesisIds = thesisRepository.searchThesisIdsAfterCursor(
+                userId,
+                visibilitiesFilter,
+                SearchHelper.normalizeSearchQuery(searchQuery),
+                SearchHelper.toPrefixTsQuery(searchQuery),
+                statesFilter,
+                typesFilter,
+                position == null ? null : position.sortValue(),
+                position == null ? null : position.id(),
+                ascending,
+                PageRequest.of(0, limit, Sort.by(ascending ? Sort.Direction.ASC : Sort.Direction.DESC, "created_at", "thesis_id"))
+        );
+
+        return new SliceImpl<>(
+                HibernateHelper.findAllInOrder(thesisIds.getContent(), thesisRepository::findAllByIdIn, Thesis::getId),
+                thesisIds.getPageable(),
+                thesisIds.hasNext()
+        );
+    }
+
+    private <T> Slice<T> search(
+            UUID userId,
+            Set<ThesisVisibility> visibilities,
+            String searchQuery,
+            ThesisState[] states,
+            String[] types,
+            int page,
+            int limit,
+            boolean withTotal,
+            String sortBy,
+            String sortOrder,
+            Function<List<UUID>, List<T>> loader
+    ) {
+        Sort.Order order = new Sort.Order(
+                sortOrder.equals("asc") ? Sort.Direction.ASC : Sort.Direction.DESC,
+                HibernateHelper.getColumnName(Thesis.class, sortBy)
+        );
+
+        String[] visibilitiesFilter = visibilities == null || visibilities.isEmpty() ? null : visibilities.stream().map(ThesisVisibility::name).toArray(String[]::new);
+        String[] statesFilter = states == null || states.length == 0 ? null : Arrays.stream(states).map(ThesisState::name).toArray(String[]::new);
+        String[] typesFilter = types == null || types.length == 0 ? null : types;
+
+        String searchQueryFilter = SearchHelper.normalizeSearchQuery(searchQuery);
+        String searchTsQuery = SearchHelper.toPrefixTsQuery(searchQuery);
+
+        Slice<UUID> thesisIds = thesisRepository.searchThesisIds(
+                userId,
+                visibilitiesFilter,
                 searchQueryFilter,
+                searchTsQuery,
                 statesFilter,
                 typesFilter,
                 PageRequest.of(page, limit, Sort.by(order))
         );
+
+        return PaginationHelper.toSlice(
+                loader.apply(thesisIds.getContent()),
+                thesisIds,
+                withTotal,
+                () -> thesisRepository.countTheses(userId, visibilitiesFilter, searchQueryFilter, searchTsQuery, statesFilter, typesFilter)
+        );
+    }
+
+    private List<ThesisSummaryDto> getSummaries(List<UUID> thesisIds) {
+        if (thesisIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, List<RoleMember>> members = new HashMap<>();
+
+        for (RoleMember member : thesisRoleRepository.findMembersByThesisIds(thesisIds)) {
+            members.computeIfAbsent(member.parentId(), key -> new ArrayList<>()).add(member);
+        }
+
+        return HibernateHelper.findAllInOrder(thesisIds, thesisRepository::findSummariesByIdIn, ThesisSummaryRow::thesisId).stream()
+                .map(row -> ThesisSummaryDto.fromSummaryRow(row, members.getOrDefault(row.thesisId(), List.of())))
+                .toList();
+    }
+
+    @ReadFromReplica
+    public List<ThesisSuggestionDto> getSuggestions(UUID userId, Set<ThesisVisibility> visibilities, String searchQuery) {
+        List<ThesisTitle> titles = thesisRepository.findThesisTitles(
+                userId,
+                visibilities == null || visibilities.isEmpty() ? null : visibilities.stream().map(ThesisVisibility::name).toArray(String[]::new),
+                SearchHelper.normalizeSearchQuery(searchQuery),
+                PageRequest.of(0, SUGGESTIONS_LIMIT)
+        );
+
+        if (titles.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, List<String>> students = new HashMap<>();
+
+        for (ThesisStudentName student : thesisRoleRepository.findNamesByThesisIdsAndRole(titles.stream().map(ThesisTitle::getThesisId).toList(), ThesisRoleName.STUDENT)) {
+            students.computeIfAbsent(student.thesisId(), key -> new ArrayList<>()).add(student.firstName() + " " + student.lastName());
+        }
+
+        return titles.stream()
+                .map(title -> new ThesisSuggestionDto(title.getThesisId(), title.getTitle(), students.getOrDefault(title.getThesisId(), List.of())))
+                .toList();
+    }
+
+    @ReadFromReplica
+    public List<FacetCount> getFacets(
+            UUID userId,
+            Set<ThesisVisibility> visibilities,
+            String searchQuery,
+            ThesisState[] states,
+            String[] types
+    ) {
+        String[] visibilitiesFilter = visibilities == null || visibilities.isEmpty() ? null : visibilities.stream().map(ThesisVisibility::name).toArray(String[]::new);
+        String[] statesFilter = states == null || states.length == 0 ? null : Arrays.stream(states).map(ThesisState::name).toArray(String[]::new);
+        String[] typesFilter = types == null || types.length == 0 ? null : types;
+
+        return thesisRepository.countThesisFacets(
+                userId,
+                visibilitiesFilter,
+                SearchHelper.normalizeSearchQuery(searchQuery),
+                SearchHelper.toPrefixTsQuery(searchQuery),
+                statesFilter,
+                typesFilter
+        );
     }
 
     @Transactional
@@ -190,10 +387,14 @@ public class ThesisService {
 
         assignThesisRoles(thesis, updatingUser, supervisorIds, advisorIds, studentIds);
 
+        List<ThesisStateChange> stateChanges = new ArrayList<>();
+
         for (ThesisStatePayload state : states) {
-            saveStateChange(thesis, state.state(), state.changedAt());
+            stateChanges.add(createStateChange(thesis, state.state(), state.changedAt()));
         }
 
+        thesisStateChangeRepository.saveAll(stateChanges);
+
         thesis = thesisRepository.save(thesis);
 
         thesisPresentationService.updateThesisCalendarEvents(thesis);
@@ -526,26 +727,35 @@ public class ThesisService {
     /* UTILITY */
 
     private boolean existsPendingThesis(User user) {
-        Page<Thesis> theses = thesisRepository.searchTheses(
+        Slice<UUID> theses = thesisRepository.searchThesisIds(
                 user.getId(),
                 null,
                 null,
-                Set.of(
+                null,
+                Stream.of(
                         ThesisState.PROPOSAL,
                         ThesisState.WRITING,
                         ThesisState.SUBMITTED,
                         ThesisState.ASSESSED,
                         ThesisState.GRADED
-                ),
+                ).map(ThesisState::name).toArray(String[]::new),
                 null,
                 PageRequest.ofSize(1)
         );
 
-        return theses.getTotalElements() > 0;
+        return theses.hasContent();
     }
 
     public Thesis findById(UUID thesisId) {
-        return thesisRepository.findById(thesisId)
+        return thesisRepository.findDetailById(thesisId)
+                .orElseThrow(() -> new ResourceNotFoundException(String.format("Thesis with id %s not found.", thesisId)));
+    }
+
+    /**
+     * Loads only the thesis roles which are required to evaluate access permissions
+     */
+    public Thesis findByIdForAccessCheck(UUID thesisId) {
+        return thesisRepository.findWithRolesById(thesisId)
                 .orElseThrow(() -> new ResourceNotFoundException(String.format("Thesis with id %s not found.", thesisId)));
     }
 
@@ -577,7 +787,8 @@ public class ThesisService {
         }
 
         thesisRoleRepository.deleteByThesisId(thesis.getId());
-        thesis.setRoles(new ArrayList<>());
+
+        List<ThesisRole> roles = new ArrayList<>();
 
         for (int i = 0; i < supervisors.size(); i++) {
             User supervisor = supervisors.get(i);
@@ -586,7 +797,7 @@ public class ThesisService {
                 throw new ResourceInvalidParametersException("User is not a supervisor");
             }
 
-            saveThesisRole(thesis, assigner, supervisor, ThesisRoleName.SUPERVISOR, i);
+            roles.add(createThesisRole(thesis, assigner, supervisor, ThesisRoleName.SUPERVISOR, i));
         }
 
         for (int i = 0; i < advisors.size(); i++) {
@@ -596,16 +807,38 @@ public class ThesisService {
                 throw new ResourceInvalidParametersException("User is not an advisor");
             }
 
-            saveThesisRole(thesis, assigner, advisor, ThesisRoleName.ADVISOR, i);
+            roles.add(createThesisRole(thesis, assigner, advisor, ThesisRoleName.ADVISOR, i));
         }
 
         for (int i = 0; i < students.size(); i++) {
             User student = students.get(i);
-            saveThesisRole(thesis, assigner, student, ThesisRoleName.STUDENT, i);
+            roles.add(createThesisRole(thesis, assigner, student, ThesisRoleName.STUDENT, i));
         }
+
+        thesisRoleRepository.saveAll(roles);
+        roles.sort(Comparator.comparingInt(ThesisRole::getPosition));
+
+        thesis.setRoles(roles);
     }
 
     private void saveStateChange(Thesis thesis, ThesisState state, Instant changedAt) {
+        thesisStateChangeRepository.save(createStateChange(thesis, state, changedAt));
+    }
+
+    /**
+     * Updates the existing state change of the thesis for the state or creates a new one if the state was never reached
+     */
+    private ThesisStateChange createStateChange(Thesis thesis, ThesisState state, Instant changedAt) {
+        Set<ThesisStateChange> stateChanges = thesis.getStates();
+
+        for (ThesisStateChange stateChange : stateChanges) {
+            if (stateChange.getId().getState() == state) {
+                stateChange.setChangedAt(changedAt);
+
+                return stateChange;
+            }
+        }
+
         ThesisStateChangeId stateChangeId = new ThesisStateChangeId();
         stateChangeId.setThesisId(thesis.getId());
         stateChangeId.setState(state);
@@ -615,14 +848,13 @@ public class ThesisService {
         stateChange.setThesis(thesis);
         stateChange.setChangedAt(changedAt);
 
-        thesisStateChangeRepository.save(stateChange);
-
-        Set<ThesisStateChange> stateChanges = thesis.getStates();
         stateChanges.add(stateChange);
         thesis.setStates(stateChanges);
+
+        return stateChange;
     }
 
-    private void saveThesisRole(Thesis thesis, User assigner, User user, ThesisRoleName role, int position) {
+    private ThesisRole createThesisRole(Thesis thesis, User assigner, User user, ThesisRoleName role, int position) {
         if (assigner == null || user == null) {
             throw new ResourceInvalidParametersException("Assigner and user must be provided.");
         }
@@ -641,13 +873,6 @@ public class ThesisService {
         thesisRole.setThesis(thesis);
         thesisRole.setPosition(position);
 
-        thesisRoleRepository.save(thesisRole);
-
-        List<ThesisRole> roles = thesis.getRoles();
-
-        roles.add(thesisRole);
-        roles.sort(Comparator.comparingInt(ThesisRole::getPosition));
-
-        thesis.setRoles(roles);
+        return thesisRole;
     }
 }
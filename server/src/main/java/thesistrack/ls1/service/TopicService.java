@@ -2,12 +2,14 @@ package thesistrack.ls1.service;
 
 import org.hibernate.SessionFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import thesistrack.ls1.config.ReadFromReplica;
 import thesistrack.ls1.constants.ThesisRoleName;
+import thesistrack.ls1.dto.TopicSummaryDto;
 import thesistrack.ls1.entity.Topic;
 import thesistrack.ls1.entity.TopicRole;
 import thesistrack.ls1.entity.User;
@@ -17,7 +19,11 @@ import thesistrack.ls1.exception.request.ResourceNotFoundException;
 import thesistrack.ls1.repository.TopicRepository;
 import thesistrack.ls1.repository.TopicRoleRepository;
 import thesistrack.ls1.repository.UserRepository;
+import thesistrack.ls1.repository.projection.RoleMember;
+import thesistrack.ls1.repository.projection.TopicSummaryRow;
 import thesistrack.ls1.utility.HibernateHelper;
+import thesistrack.ls1.utility.PaginationHelper;
+import thesistrack.ls1.utility.SearchHelper;
 
 import java.time.Instant;
 import java.util.*;
@@ -35,12 +41,14 @@ public class TopicService {
         this.userRepository = userRepository;
     }
 
-    public Page<Topic> getAll(
+    @ReadFromReplica
+    public Slice<Topic> getAll(
             String[] types,
             boolean includeClosed,
             String searchQuery,
             int page,
             int limit,
+            boolean withTotal,
             String sortBy,
             String sortOrder
     ) {
@@ -49,15 +57,79 @@ public class TopicService {
                 HibernateHelper.getColumnName(Topic.class, sortBy)
         );
 
-        String searchQueryFilter = searchQuery == null || searchQuery.isEmpty() ? null : searchQuery.toLowerCase();
+        String searchQueryFilter = SearchHelper.normalizeSearchQuery(searchQuery);
+        String searchTsQuery = SearchHelper.toPrefixTsQuery(searchQuery);
         String[] typesFilter = types == null || types.length == 0 ? null : types;
 
-        return topicRepository.searchTopics(
+        Slice<Topic> topics = topicRepository.searchTopics(
                 typesFilter,
                 includeClosed,
                 searchQueryFilter,
+                searchTsQuery,
                 PageRequest.of(page, limit, Sort.by(order))
         );
+
+        return PaginationHelper.toSlice(
+                topics.getContent(),
+                topics,
+                withTotal,
+                () -> topicRepository.countTopics(typesFilter, includeClosed, searchQueryFilter, searchTsQuery)
+        );
+    }
+
+    /**
+     * Same as getAll, but builds read-only summaries from projections instead of loading managed entities
+     */
+    @ReadFromReplica
+    public Slice<TopicSummaryDto> getAllSummaries(
+            String[] types,
+            boolean includeClosed,
+            String searchQuery,
+            int page,
+            int limit,
+            boolean withTotal,
+            String sortBy,
+            String sortOrder
+    ) {
+        Sort.Order order = new Sort.Order(
+                sortOrder.equals("asc") ? Sort.Direction.ASC : Sort.Direction.DESC,
+                HibernateHelper.getColumnName(Topic.class, sortBy)
+        );
+
+        String searchQueryFilter = SearchHelper.normalizeSearchQuery(searchQuery);
+        String searchTsQuery = SearchHelper.toPrefixTsQuery(searchQuery);
+        String[] typesFilter = types == null || types.length == 0 ? null : types;
+
+        Slice<UUID> topicIds = topicRepository.searchTopicIds(
+                typesFilter,
+                includeClosed,
+                searchQueryFilter,
+                searchTsQuery,
+                PageRequest.of(page, limit, Sort.by(order))
+        );
+
+        return PaginationHelper.toSlice(
+                getSummaries(topicIds.getContent()),
+                topicIds,
+                withTotal,
+                () -> topicRepository.countTopics(typesFilter, includeClosed, searchQueryFilter, searchTsQuery)
+        );
+    }
+
+    private List<TopicSummaryDto> getSummaries(List<UUID> topicIds) {
+        if (topicIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, List<RoleMember>> members = new HashMap<>();
+
+        for (RoleMember member : topicRoleRepository.findMembersByTopicIds(topicIds)) {
+            members.computeIfAbsent(member.parentId(), key -> new ArrayList<>()).add(member);
+        }
+
+        return HibernateHelper.findAllInOrder(topicIds, topicRepository::findSummariesByIdIn, TopicSummaryRow::topicId).stream()
+                .map(row -> TopicSummaryDto.fromSummaryRow(row, members.getOrDefault(row.topicId(), List.of())))
+                .toList();
     }
 
     @Transactional
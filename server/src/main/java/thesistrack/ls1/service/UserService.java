@@ -2,21 +2,28 @@ package thesistrack.ls1.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import thesistrack.ls1.dto.UserSuggestionDto;
 import thesistrack.ls1.entity.User;
+import thesistrack.ls1.exception.request.ResourceInvalidParametersException;
 import thesistrack.ls1.exception.request.ResourceNotFoundException;
 import thesistrack.ls1.repository.UserRepository;
+import thesistrack.ls1.utility.CursorHelper;
+import thesistrack.ls1.utility.HibernateHelper;
+import thesistrack.ls1.utility.PaginationHelper;
+import thesistrack.ls1.utility.SearchHelper;
 
-import java.util.Arrays;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
 @Service
 public class UserService {
+    private static final int SUGGESTIONS_LIMIT = 10;
+
     private final UserRepository userRepository;
     private final UploadService uploadService;
 
@@ -26,14 +33,50 @@ public class UserService {
         this.uploadService = uploadService;
     }
 
-    public Page<User> getAll(String searchQuery, String[] groups, Integer page, Integer limit, String sortBy, String sortOrder) {
-        Sort.Order order = new Sort.Order(sortOrder.equals("asc") ? Sort.Direction.ASC : Sort.Direction.DESC, sortBy);
+    public Slice<User> getAll(String searchQuery, String[] groups, Integer page, Integer limit, boolean withTotal, String sortBy, String sortOrder) {
+        Sort.Order order = new Sort.Order(
+                sortOrder.equals("asc") ? Sort.Direction.ASC : Sort.Direction.DESC,
+                HibernateHelper.getColumnName(User.class, sortBy)
+        );
+
+        String searchQueryFilter = SearchHelper.normalizeSearchQuery(searchQuery);
+        PageRequest pageRequest = PageRequest.of(page, limit, Sort.by(order));
+
+        if (groups == null || groups.length == 0) {
+            Slice<User> users = userRepository.searchUsers(searchQueryFilter, pageRequest);
+
+            return PaginationHelper.toSlice(users.getContent(), users, withTotal, () -> userRepository.countUsers(searchQueryFilter));
+        }
+
+        Slice<User> users = userRepository.searchUsersInGroups(searchQueryFilter, groups, pageRequest);
+
+        return PaginationHelper.toSlice(users.getContent(), users, withTotal, () -> userRepository.countUsersInGroups(searchQueryFilter, groups));
+    }
+
+    public Slice<User> getAllAfterCursor(String searchQuery, String[] groups, String cursor, Integer limit, String sortBy, String sortOrder) {
+        if (!sortBy.equals("joinedAt")) {
+            throw new ResourceInvalidParametersException("Cursor pagination is only supported when sorting by joinedAt");
+        }
 
-        String searchQueryFilter = searchQuery == null || searchQuery.isEmpty() ? null : searchQuery.toLowerCase();
-        Set<String> groupsFilter = groups == null || groups.length == 0 ? null : new HashSet<>(Arrays.asList(groups));
+        CursorHelper.Cursor position = CursorHelper.decode(cursor);
+        boolean ascending = sortOrder.equals("asc");
+
+        return userRepository.searchUsersAfterCursor(
+                SearchHelper.normalizeSearchQuery(searchQuery),
+                groups == null || groups.length == 0 ? null : groups,
+                position == null ? null : position.sortValue(),
+                position == null ? null : position.id(),
+                ascending,
+                PageRequest.of(0, limit, Sort.by(ascending ? Sort.Direction.ASC : Sort.Direction.DESC, "joined_at", "user_id"))
+        );
+    }
 
-        return userRepository
-                .searchUsers(searchQueryFilter, groupsFilter, PageRequest.of(page, limit, Sort.by(order)));
+    public List<UserSuggestionDto> getSuggestions(String searchQuery, String[] groups) {
+        return userRepository.findUserSuggestions(
+                SearchHelper.normalizeSearchQuery(searchQuery),
+                groups == null || groups.length == 0 ? null : Set.of(groups),
+                PageRequest.of(0, SUGGESTIONS_LIMIT)
+        ).stream().map(UserSuggestionDto::fromSuggestionRow).toList();
     }
 
     public Resource getExaminationReport(User user) {
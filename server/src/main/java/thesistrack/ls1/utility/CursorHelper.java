@@ -0,0 +1,52 @@
+package thesistrack.ls1.utility;
+
+import org.springframework.data.domain.Slice;
+import thesistrack.ls1.exception.request.ResourceInvalidParametersException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.function.Function;
+
+public class CursorHelper {
+    public record Cursor(Instant sortValue, UUID id) {}
+
+    public static String encode(Instant sortValue, UUID id) {
+        String value = sortValue.toString() + "," + id.toString();
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor previously returned as nextCursor. An empty cursor starts at the beginning of the list.
+     */
+    public static Cursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(",", 2);
+
+            if (parts.length != 2) {
+                throw new ResourceInvalidParametersException("Invalid pagination cursor");
+            }
+
+            return new Cursor(Instant.parse(parts[0]), UUID.fromString(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ResourceInvalidParametersException("Invalid pagination cursor");
+        }
+    }
+
+    public static <T> String nextCursor(Slice<T> slice, Function<T, Instant> sortValue, Function<T, UUID> id) {
+        if (!slice.hasNext() || slice.isEmpty()) {
+            return null;
+        }
+
+        T last = slice.getContent().getLast();
+
+        return encode(sortValue.apply(last), id.apply(last));
+    }
+}
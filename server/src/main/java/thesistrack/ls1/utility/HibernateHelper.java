@@ -3,6 +3,11 @@ package thesistrack.ls1.utility;
 import jakarta.persistence.Column;
 
 import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public class HibernateHelper {
     public static String getColumnName(Class<?> entityClass, String fieldName) {
@@ -18,4 +23,18 @@ public class HibernateHelper {
             throw new RuntimeException("Field not found: " + fieldName, e);
         }
     }
+
+    /**
+     * Loads the entities for an ordered list of ids in a single query and returns them in the order of the ids.
+     */
+    public static <T, ID> List<T> findAllInOrder(List<ID> ids, Function<List<ID>, List<T>> loader, Function<T, ID> idGetter) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<ID, T> entities = loader.apply(ids).stream()
+                .collect(Collectors.toMap(idGetter, Function.identity(), (first, second) -> first));
+
+        return ids.stream().map(entities::get).filter(Objects::nonNull).toList();
+    }
 }
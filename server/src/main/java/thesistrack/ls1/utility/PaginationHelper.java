@@ -0,0 +1,22 @@
+package thesistrack.ls1.utility;
+
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+
+public class PaginationHelper {
+    /**
+     * Wraps the content of a fetched window into a Page if a total is requested, otherwise into a Slice.
+     * The total is only queried if it cannot be derived from the window itself.
+     */
+    public static <T> Slice<T> toSlice(List<T> content, Slice<?> window, boolean withTotal, LongSupplier totalSupplier) {
+        if (!withTotal) {
+            return new SliceImpl<>(content, window.getPageable(), window.hasNext());
+        }
+
+        return PageableExecutionUtils.getPage(content, window.getPageable(), totalSupplier);
+    }
+}
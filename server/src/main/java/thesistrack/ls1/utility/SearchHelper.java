@@ -0,0 +1,33 @@
+package thesistrack.ls1.utility;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+public class SearchHelper {
+    public static String normalizeSearchQuery(String searchQuery) {
+        if (searchQuery == null || searchQuery.isBlank()) {
+            return null;
+        }
+
+        return searchQuery.trim().toLowerCase();
+    }
+
+    /**
+     * Converts a raw user search input into a postgres tsquery where every term is matched as prefix.
+     * Characters that have a special meaning in tsquery syntax are dropped.
+     */
+    public static String toPrefixTsQuery(String searchQuery) {
+        String normalizedQuery = normalizeSearchQuery(searchQuery);
+
+        if (normalizedQuery == null) {
+            return null;
+        }
+
+        String tsQuery = Arrays.stream(normalizedQuery.split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+
+        return tsQuery.isEmpty() ? null : tsQuery;
+    }
+}
@@ -0,0 +1,26 @@
+package thesistrack.ls1.utility;
+
+import java.util.regex.Pattern;
+
+public class SqlHelper {
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /**
+     * Reduces a sql statement to its shape so that executions with different parameters or
+     * different IN-list lengths are grouped together.
+     */
+    public static String normalizeQuery(String query) {
+        if (query == null) {
+            return "";
+        }
+
+        String normalizedQuery = STRING_LITERAL.matcher(query).replaceAll("?");
+        normalizedQuery = NUMBER_LITERAL.matcher(normalizedQuery).replaceAll("?");
+        normalizedQuery = PARAMETER_LIST.matcher(normalizedQuery).replaceAll("(?)");
+
+        return WHITESPACE.matcher(normalizedQuery).replaceAll(" ").trim();
+    }
+}
@@ -0,0 +1,32 @@
+package thesistrack.ls1.utility;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class UuidHelper {
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    /**
+     * Unix milliseconds shifted left by 12 bits combined with a 12 bit sequence that is increased for every id
+     * created within the same millisecond.
+     */
+    private static final AtomicLong LAST_STATE = new AtomicLong();
+
+    /**
+     * Creates a RFC 9562 version 7 UUID. Ids created by this JVM are strictly increasing,
+     * so they sort in creation order both in java and in postgres.
+     */
+    public static UUID randomV7() {
+        long currentState = System.currentTimeMillis() << 12;
+        long state = LAST_STATE.updateAndGet(lastState -> Math.max(lastState + 1, currentState));
+
+        long timestamp = state >>> 12;
+        long sequence = state & 0xFFFL;
+
+        long mostSignificantBits = (timestamp << 16) | 0x7000L | sequence;
+        long leastSignificantBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+}
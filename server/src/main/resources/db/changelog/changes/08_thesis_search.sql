@@ -0,0 +1,85 @@
+--liquibase formatted sql
+
+--changeset emilius:08-thesis-search-1
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+--changeset emilius:08-thesis-search-2
+ALTER TABLE theses ADD COLUMN search_vector TSVECTOR NOT NULL DEFAULT ''::tsvector;
+ALTER TABLE theses ADD COLUMN search_text TEXT NOT NULL DEFAULT '';
+
+--changeset emilius:08-thesis-search-3 splitStatements:false
+CREATE OR REPLACE FUNCTION thesis_search_members(p_thesis_id UUID) RETURNS TEXT AS $$
+    SELECT COALESCE(string_agg(concat_ws(' ', u.first_name, u.last_name, u.email, u.matriculation_number, u.university_id), ' '), '')
+    FROM thesis_roles r
+    JOIN users u ON (u.user_id = r.user_id)
+    WHERE r.thesis_id = p_thesis_id
+$$ LANGUAGE sql STABLE;
+
+--changeset emilius:08-thesis-search-4 splitStatements:false
+CREATE OR REPLACE FUNCTION theses_refresh_search() RETURNS TRIGGER AS $$
+DECLARE
+    members  TEXT := thesis_search_members(NEW.thesis_id);
+    keywords TEXT := COALESCE(array_to_string(NEW.keywords, ' '), '');
+BEGIN
+    NEW.search_vector :=
+        setweight(to_tsvector('simple', COALESCE(NEW.title, '')), 'A') ||
+        setweight(to_tsvector('simple', members), 'A') ||
+        setweight(to_tsvector('simple', keywords), 'B') ||
+        setweight(to_tsvector('simple', COALESCE(NEW.abstract, '')), 'C');
+    NEW.search_text := lower(concat_ws(' ', NEW.title, keywords, members));
+
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+--changeset emilius:08-thesis-search-5 splitStatements:false
+CREATE OR REPLACE FUNCTION thesis_roles_refresh_search() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        UPDATE theses SET title = title WHERE thesis_id = OLD.thesis_id;
+    END IF;
+
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        UPDATE theses SET title = title WHERE thesis_id = NEW.thesis_id;
+    END IF;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+--changeset emilius:08-thesis-search-6 splitStatements:false
+CREATE OR REPLACE FUNCTION users_refresh_thesis_search() RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE theses SET title = title
+    WHERE thesis_id IN (SELECT r.thesis_id FROM thesis_roles r WHERE r.user_id = NEW.user_id);
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+--changeset emilius:08-thesis-search-7
+CREATE TRIGGER theses_search_update
+    BEFORE INSERT OR UPDATE OF title, keywords, abstract ON theses
+    FOR EACH ROW EXECUTE FUNCTION theses_refresh_search();
+
+CREATE TRIGGER thesis_roles_search_update
+    AFTER INSERT OR UPDATE OR DELETE ON thesis_roles
+    FOR EACH ROW EXECUTE FUNCTION thesis_roles_refresh_search();
+
+CREATE TRIGGER users_thesis_search_update
+    AFTER UPDATE OF first_name, last_name, email, matriculation_number, university_id ON users
+    FOR EACH ROW
+    WHEN (
+        OLD.first_name IS DISTINCT FROM NEW.first_name OR
+        OLD.last_name IS DISTINCT FROM NEW.last_name OR
+        OLD.email IS DISTINCT FROM NEW.email OR
+        OLD.matriculation_number IS DISTINCT FROM NEW.matriculation_number OR
+        OLD.university_id IS DISTINCT FROM NEW.university_id
+    )
+    EXECUTE FUNCTION users_refresh_thesis_search();
+
+--changeset emilius:08-thesis-search-8
+UPDATE theses SET title = title;
+
+CREATE INDEX idx_theses_search_vector ON theses USING GIN (search_vector);
+CREATE INDEX idx_theses_search_text ON theses USING GIN (search_text gin_trgm_ops);
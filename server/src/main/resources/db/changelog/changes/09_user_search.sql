@@ -0,0 +1,10 @@
+--liquibase formatted sql
+
+--changeset emilius:09-user-search-1
+CREATE INDEX idx_users_name_trgm ON users USING GIN ((LOWER(first_name) || ' ' || LOWER(last_name)) gin_trgm_ops);
+CREATE INDEX idx_users_email_trgm ON users USING GIN (LOWER(email) gin_trgm_ops);
+CREATE INDEX idx_users_matriculation_number_trgm ON users USING GIN (LOWER(matriculation_number) gin_trgm_ops);
+CREATE INDEX idx_users_university_id_trgm ON users USING GIN (LOWER(university_id) gin_trgm_ops);
+
+--changeset emilius:09-user-search-2
+CREATE INDEX idx_user_groups_group ON user_groups ("group", user_id);
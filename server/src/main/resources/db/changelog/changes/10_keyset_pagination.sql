@@ -0,0 +1,8 @@
+--liquibase formatted sql
+
+--changeset emilius:10-keyset-pagination-1
+CREATE INDEX idx_theses_created_at_id ON theses (created_at, thesis_id);
+CREATE INDEX idx_users_joined_at_id ON users (joined_at, user_id);
+
+DROP INDEX IF EXISTS idx_applications_created_at;
+CREATE INDEX idx_applications_created_at_id ON applications (created_at, application_id);
@@ -0,0 +1,5 @@
+--liquibase formatted sql
+
+--changeset emilius:11-application-search-1
+CREATE INDEX idx_application_reviewers_user_reason ON application_reviewers (user_id, reason, application_id);
+CREATE INDEX idx_applications_state_topic_created_at ON applications (state, topic_id, created_at);
@@ -0,0 +1,14 @@
+--liquibase formatted sql
+
+--changeset emilius:12-topic-search-1
+ALTER TABLE topics ADD COLUMN search_vector TSVECTOR GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', COALESCE(title, '')), 'A') ||
+    setweight(to_tsvector('simple', COALESCE(problem_statement, '')), 'B') ||
+    setweight(to_tsvector('simple', COALESCE(goals, '')), 'C') ||
+    setweight(to_tsvector('simple', COALESCE(requirements, '')), 'C')
+) STORED;
+
+--changeset emilius:12-topic-search-2
+CREATE INDEX idx_topics_search_vector ON topics USING GIN (search_vector);
+CREATE INDEX idx_topics_title_trgm ON topics USING GIN (lower(title) gin_trgm_ops);
+CREATE INDEX idx_topics_thesis_types ON topics USING GIN (thesis_types);
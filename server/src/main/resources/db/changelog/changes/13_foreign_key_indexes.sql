@@ -0,0 +1,10 @@
+--liquibase formatted sql
+
+--changeset emilius:13-foreign-key-indexes-1
+CREATE INDEX idx_thesis_roles_user_id ON thesis_roles (user_id, thesis_id);
+CREATE INDEX idx_applications_user_id ON applications (user_id);
+CREATE INDEX idx_applications_topic_id ON applications (topic_id);
+
+--changeset emilius:13-foreign-key-indexes-2
+CREATE INDEX idx_thesis_comments_thesis_type_created_at ON thesis_comments (thesis_id, type, created_at);
+CREATE INDEX idx_thesis_presentations_scheduled_at ON thesis_presentations (scheduled_at, visibility, state);
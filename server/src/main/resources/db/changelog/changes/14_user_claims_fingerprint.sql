@@ -0,0 +1,4 @@
+--liquibase formatted sql
+
+--changeset emilius:14-user-claims-fingerprint-1
+ALTER TABLE users ADD COLUMN claims_fingerprint TEXT;
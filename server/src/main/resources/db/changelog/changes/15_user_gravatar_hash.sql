@@ -0,0 +1,10 @@
+--liquibase formatted sql
+
+--changeset emilius:15-user-gravatar-hash-1
+ALTER TABLE users ADD COLUMN gravatar_hash TEXT;
+
+--changeset emilius:15-user-gravatar-hash-2
+-- strips the same leading and trailing control characters and spaces as String.trim() in User.setEmail
+-- LOWER follows the database collation while Java uses toLowerCase(Locale.ROOT), so for non-ASCII emails the
+-- backfilled hash can differ from the one computed the next time the email changes
+UPDATE users SET gravatar_hash = MD5(LOWER(REGEXP_REPLACE(email, '^[\x01-\x20]+|[\x01-\x20]+$', '', 'g'))) WHERE email IS NOT NULL;
@@ -0,0 +1,161 @@
+package thesistrack.ls1.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import thesistrack.ls1.mock.BaseIntegrationTest;
+import thesistrack.ls1.repository.UserRepository;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Testcontainers
+class DataSourceConfigTest extends BaseIntegrationTest {
+    @Container
+    private static final PostgreSQLContainer<?> replicaContainer = new PostgreSQLContainer<>("postgres:17.1-alpine")
+            .withDatabaseName("thesis-track-replica");
+
+    @DynamicPropertySource
+    static void configureDynamicProperties(DynamicPropertyRegistry registry) {
+        configureProperties(registry);
+
+        replicaContainer.start();
+
+        registry.add("thesis-track.datasource.replica.url", replicaContainer::getJdbcUrl);
+        registry.add("thesis-track.datasource.replica.username", replicaContainer::getUsername);
+        registry.add("thesis-track.datasource.replica.password", replicaContainer::getPassword);
+
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> "7");
+        registry.add("thesis-track.datasource.replica.hikari.maximum-pool-size", () -> "3");
+    }
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReplicaReader replicaReader;
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    private HikariDataSource replicaDataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void pools_BindHikariProperties() {
+        assertEquals(7, primaryDataSource.getMaximumPoolSize());
+        assertEquals(3, replicaDataSource.getMaximumPoolSize());
+        assertTrue(replicaDataSource.isReadOnly());
+    }
+
+    @Test
+    void pools_RegisterMetrics() throws Exception {
+        // hikari starts its pools lazily and only then registers the gauges
+        try (Connection primaryConnection = primaryDataSource.getConnection(); Connection replicaConnection = replicaDataSource.getConnection()) {
+            assertTrue(primaryConnection.isValid(1) && replicaConnection.isValid(1));
+        }
+
+        assertNotNull(meterRegistry.find("hikaricp.connections.max").tag("pool", "primary").gauge());
+        assertNotNull(meterRegistry.find("hikaricp.connections.max").tag("pool", "replica").gauge());
+    }
+
+    @Test
+    void replicaReadMethod_UsesReplica() {
+        assertEquals(replicaContainer.getDatabaseName(), replicaReader.getCurrentDatabase());
+    }
+
+    @Test
+    void replicaReadMethod_InsideReadWriteTransaction_UsesPrimary() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        String database = transactionTemplate.execute(status -> replicaReader.getCurrentDatabase());
+
+        assertEquals(dbContainer.getDatabaseName(), database);
+    }
+
+    @Test
+    void readOnlyTransaction_WithoutReplicaRead_UsesPrimary() {
+        assertEquals(dbContainer.getDatabaseName(), getCurrentDatabase(true));
+    }
+
+    @Test
+    void repositoryFindById_WithoutTransaction_UsesPrimary() throws Exception {
+        UUID userId = createTestUser("replica-user", List.of("student"));
+        entityManagerFactory.getCache().evictAll();
+
+        // the replica has no schema, so the read-only repository transaction would fail if it was routed there
+        assertTrue(userRepository.findById(userId).isPresent());
+    }
+
+    @Test
+    void readWriteTransaction_UsesPrimary() {
+        assertEquals(dbContainer.getDatabaseName(), getCurrentDatabase(false));
+    }
+
+    @Test
+    void withoutTransaction_UsesPrimary() {
+        String database = new JdbcTemplate(dataSource).queryForObject("SELECT current_database()", String.class);
+
+        assertEquals(dbContainer.getDatabaseName(), database);
+    }
+
+    private String getCurrentDatabase(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+
+        return transactionTemplate.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("SELECT current_database()", String.class)
+        );
+    }
+
+    @TestConfiguration
+    static class ReplicaReaderConfig {
+        @Bean
+        ReplicaReader replicaReader(DataSource dataSource) {
+            return new ReplicaReader(dataSource);
+        }
+    }
+
+    static class ReplicaReader {
+        private final DataSource dataSource;
+
+        ReplicaReader(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        @ReadFromReplica
+        public String getCurrentDatabase() {
+            return new JdbcTemplate(dataSource).queryForObject("SELECT current_database()", String.class);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package thesistrack.ls1.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import thesistrack.ls1.controller.payload.ReplaceTopicPayload;
+import thesistrack.ls1.entity.Topic;
+import thesistrack.ls1.entity.TopicRole;
+import thesistrack.ls1.entity.User;
+import thesistrack.ls1.entity.UserGroup;
+import thesistrack.ls1.mock.BaseIntegrationTest;
+import thesistrack.ls1.repository.TopicRepository;
+import thesistrack.ls1.repository.UserRepository;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Testcontainers
+class HibernateCacheConfigTest extends BaseIntegrationTest {
+    @DynamicPropertySource
+    static void configureDynamicProperties(DynamicPropertyRegistry registry) {
+        configureProperties(registry);
+    }
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    private Statistics statistics;
+
+    @BeforeAll
+    void enableStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void findUser_SecondLoad_HitsSecondLevelCache() throws Exception {
+        UUID userId = createTestUser("cached-user", List.of("student"));
+
+        userRepository.findById(userId);
+        statistics.clear();
+
+        User user = userRepository.findById(userId).orElseThrow();
+
+        assertEquals("cached-user", user.getUniversityId());
+        assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getRoleMembers_AfterGroupsChange_ReturnsCurrentMembers() throws Exception {
+        createTestUser("cached-user", List.of("student"));
+
+        assertTrue(getRoleMemberIds("advisor").isEmpty());
+        assertTrue(getRoleMemberIds("advisor").isEmpty());
+
+        UUID userId = createTestUser("cached-user", List.of("advisor"));
+
+        assertEquals(Set.of(userId), getRoleMemberIds("advisor"));
+        assertTrue(getRoleMemberIds("student").isEmpty());
+    }
+
+    @Test
+    void getRoleMembers_RepeatedCall_LoadsNotificationSettingsWithQuery() throws Exception {
+        createTestUser("first-advisor", List.of("advisor"));
+        createTestUser("second-advisor", List.of("advisor"));
+
+        getRoleMemberIds("advisor");
+        statistics.clear();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                userRepository.getRoleMembers(Set.of("advisor")).forEach(user -> user.getNotificationSettings().size())
+        );
+
+        assertEquals(0, statistics.getQueryCacheHitCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void updateTopic_ChangedAdvisor_EvictsCachedRoles() throws Exception {
+        UUID topicId = createTestTopic("Cached Topic");
+        UUID advisorId = createTestUser("other-advisor", List.of("advisor"));
+        UUID supervisorId = createTestUser("supervisor", List.of("supervisor", "advisor"));
+
+        getTopicRoleUserIds(topicId);
+
+        ReplaceTopicPayload payload = new ReplaceTopicPayload(
+                "Cached Topic",
+                Set.of("MASTER"),
+                "Test Problem Statement",
+                "Test Requirements",
+                "Test Goals",
+                "Test References",
+                List.of(supervisorId),
+                List.of(advisorId)
+        );
+
+        mockMvc.perform(MockMvcRequestBuilders.put("/v2/topics/" + topicId)
+                        .header("Authorization", createRandomAdminAuthentication())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(payload)))
+                .andExpect(status().isOk());
+
+        assertEquals(Set.of(supervisorId, advisorId), getTopicRoleUserIds(topicId));
+    }
+
+    private Set<UUID> getRoleMemberIds(String role) {
+        return new TransactionTemplate(transactionManager).execute(status ->
+                userRepository.getRoleMembers(Set.of(role)).stream()
+                        .filter(user -> user.getGroups().stream().map(UserGroup::getId).anyMatch(id -> id.getGroup().equals(role)))
+                        .map(User::getId)
+                        .collect(Collectors.toSet())
+        );
+    }
+
+    private Set<UUID> getTopicRoleUserIds(UUID topicId) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Topic topic = topicRepository.findById(topicId).orElseThrow();
+
+            return topic.getRoles().stream()
+                    .map(TopicRole::getUser)
+                    .map(User::getId)
+                    .collect(Collectors.toSet());
+        });
+    }
+}
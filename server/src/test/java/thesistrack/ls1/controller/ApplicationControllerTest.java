@@ -1,5 +1,6 @@
 package thesistrack.ls1.controller;
 
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -9,9 +10,11 @@ import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.testcontainers.junit.jupiter.Testcontainers;
+import thesistrack.ls1.constants.ApplicationRejectReason;
 import thesistrack.ls1.constants.ApplicationState;
 import thesistrack.ls1.controller.payload.AcceptApplicationPayload;
 import thesistrack.ls1.controller.payload.CreateApplicationPayload;
+import thesistrack.ls1.controller.payload.RejectApplicationPayload;
 import thesistrack.ls1.controller.payload.UpdateApplicationCommentPayload;
 import thesistrack.ls1.mock.BaseIntegrationTest;
 
@@ -19,6 +22,7 @@ import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
+import static org.hamcrest.Matchers.matchesPattern;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @Testcontainers
@@ -51,6 +55,82 @@ class ApplicationControllerTest extends BaseIntegrationTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.state").value(ApplicationState.NOT_ASSESSED.getValue()));
     }
 
+    @Test
+    void getApplicationSummaries_ReturnsApplicant() throws Exception {
+        createTestApplication(createRandomAuthentication("student"), "Summary Application");
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/v2/applications/summaries")
+                        .header("Authorization", createRandomAdminAuthentication())
+                        .param("fetchAll", "true"))
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].thesisTitle").value("Summary Application"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].state").value(ApplicationState.NOT_ASSESSED.getValue()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].user.avatar").value(matchesPattern("https://www\\.gravatar\\.com/avatar/[0-9a-f]{32}\\?s=400")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].topicId").isEmpty());
+    }
+
+    @Test
+    void getApplications_WithCursor_PagesWithoutOverlap() throws Exception {
+        createTestApplication(createRandomAuthentication("student"), "First Application");
+        createTestApplication(createRandomAuthentication("student"), "Second Application");
+        createTestApplication(createRandomAuthentication("student"), "Third Application");
+
+        String authorization = createRandomAdminAuthentication();
+
+        String response = mockMvc.perform(MockMvcRequestBuilders.get("/v2/applications")
+                        .header("Authorization", authorization)
+                        .param("fetchAll", "true")
+                        .param("limit", "2")
+                        .param("cursor", ""))
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].thesisTitle").value("Third Application"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalElements").doesNotExist())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.last").value(false))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.nextCursor").isString())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String nextCursor = JsonPath.parse(response).read("$.nextCursor", String.class);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/v2/applications")
+                        .header("Authorization", authorization)
+                        .param("fetchAll", "true")
+                        .param("limit", "2")
+                        .param("cursor", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].thesisTitle").value("First Application"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.last").value(true))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void getApplications_WithCursorAndUnsupportedSort_BadRequest() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/v2/applications")
+                        .header("Authorization", createRandomAdminAuthentication())
+                        .param("sortBy", "reviewedAt")
+                        .param("cursor", ""))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getApplicationFacets_WithStateFilter_CountsOtherStates() throws Exception {
+        createTestApplication(createRandomAuthentication("student"), "First Application");
+        createTestApplication(createRandomAuthentication("student"), "Second Application");
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/v2/applications/facets")
+                        .header("Authorization", createRandomAdminAuthentication())
+                        .param("fetchAll", "true")
+                        .param("state", "ACCEPTED"))
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.total").value(0))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.states.NOT_ASSESSED").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.types.BACHELOR").value(0));
+    }
+
     @Test
     void updateApplication_Success() throws Exception {
         String authorization = createRandomAdminAuthentication();
@@ -113,4 +193,57 @@ class ApplicationControllerTest extends BaseIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(MockMvcResultMatchers.jsonPath("$[0].state").value(ApplicationState.ACCEPTED.getValue()));
     }
+
+    @Test
+    void rejectApplication_WithFailedStudentRequirements_RejectsAllPendingApplications() throws Exception {
+        String studentAuthorization = createRandomAuthentication("student");
+        UUID applicationId = createTestApplication(studentAuthorization, "Application");
+        UUID topicId = createTestTopic("Topic");
+
+        CreateApplicationPayload topicApplicationPayload = new CreateApplicationPayload(
+                topicId,
+                null,
+                "MASTER",
+                Instant.now(),
+                "Test motivation"
+        );
+
+        String response = mockMvc.perform(MockMvcRequestBuilders.post("/v2/applications")
+                        .header("Authorization", studentAuthorization)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(topicApplicationPayload)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        UUID topicApplicationId = UUID.fromString(JsonPath.parse(response).read("$.applicationId", String.class));
+
+        RejectApplicationPayload payload = new RejectApplicationPayload(
+                ApplicationRejectReason.FAILED_STUDENT_REQUIREMENTS,
+                true
+        );
+
+        String authorization = createRandomAdminAuthentication();
+
+        mockMvc.perform(MockMvcRequestBuilders.put("/v2/applications/" + applicationId + "/reject")
+                        .header("Authorization", authorization)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(payload)))
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].applicationId").value(applicationId.toString()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].state").value(ApplicationState.REJECTED.getValue()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].applicationId").value(topicApplicationId.toString()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].state").value(ApplicationState.REJECTED.getValue()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].rejectReason").value(ApplicationRejectReason.FAILED_STUDENT_REQUIREMENTS.getValue()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].reviewedAt").exists())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].user").doesNotExist());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/v2/applications/" + topicApplicationId)
+                        .header("Authorization", authorization))
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.state").value(ApplicationState.REJECTED.getValue()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.reviewers.length()").value(1));
+    }
 }
@@ -0,0 +1,129 @@
+package thesistrack.ls1.controller;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import thesistrack.ls1.controller.payload.CreateThesisPayload;
+import thesistrack.ls1.mock.BaseIntegrationTest;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Testcontainers
+class ListStatementCountTest extends BaseIntegrationTest {
+
+    @DynamicPropertySource
+    static void configureDynamicProperties(DynamicPropertyRegistry registry) {
+        configureProperties(registry);
+    }
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Statistics statistics;
+
+    @BeforeAll
+    void enableStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void getTheses_StatementCountIndependentOfPageSize() throws Exception {
+        String authorization = createRandomAdminAuthentication();
+
+        createThesesWithDistinctStudents(2);
+        long smallPageStatements = countStatements("/v2/theses", authorization, 2);
+
+        createThesesWithDistinctStudents(8);
+        long largePageStatements = countStatements("/v2/theses", authorization, 10);
+
+        assertEquals(smallPageStatements, largePageStatements);
+    }
+
+    @Test
+    void getApplications_StatementCountIndependentOfPageSize() throws Exception {
+        String authorization = createRandomAdminAuthentication();
+
+        createApplicationsWithDistinctStudents(2);
+        long smallPageStatements = countStatements("/v2/applications", authorization, 2);
+
+        createApplicationsWithDistinctStudents(8);
+        long largePageStatements = countStatements("/v2/applications", authorization, 10);
+
+        assertEquals(smallPageStatements, largePageStatements);
+    }
+
+    private long countStatements(String path, String authorization, int expectedElements) throws Exception {
+        clearCaches();
+        statistics.clear();
+
+        mockMvc.perform(MockMvcRequestBuilders.get(path)
+                        .header("Authorization", authorization)
+                        .param("fetchAll", "true")
+                        .param("withTotal", "false")
+                        .param("limit", "50"))
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()").value(expectedElements));
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * Both measured requests start cold, so rows served from the second level cache cannot hide per-row queries.
+     */
+    private void clearCaches() {
+        for (String cacheName : cacheManager.getCacheNames()) {
+            Objects.requireNonNull(cacheManager.getCache(cacheName)).clear();
+        }
+
+        entityManagerFactory.getCache().evictAll();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+    }
+
+        private void createThesesWithDistinctStudents(int count) throws Exception {
+        UUID advisorId = createTestUser("supervisor", List.of("supervisor", "advisor"));
+
+        for (int i = 0; i < count; i++) {
+            UUID studentId = createTestUser(UUID.randomUUID().toString().substring(0, 12), List.of("student"));
+
+            CreateThesisPayload payload = new CreateThesisPayload(
+                    "Thesis " + i,
+                    "MASTER",
+                    "ENGLISH",
+                    List.of(studentId),
+                    List.of(advisorId),
+                    List.of(advisorId)
+            );
+
+            mockMvc.perform(MockMvcRequestBuilders.post("/v2/theses")
+                            .header("Authorization", createRandomAdminAuthentication())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(payload)))
+                    .andExpect(status().isOk());
+        }
+    }
+
+    private void createApplicationsWithDistinctStudents(int count) throws Exception {
+        for (int i = 0; i < count; i++) {
+            createTestApplication(createRandomAuthentication("student"), "Application " + i);
+        }
+    }
+}
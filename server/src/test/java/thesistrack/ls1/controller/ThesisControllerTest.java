@@ -40,6 +40,72 @@ class ThesisControllerTest extends BaseIntegrationTest {
                     .andExpect(jsonPath("$.totalElements", isA(Number.class)));
         }
 
+        @Test
+        void getTheses_WithSearch_Success() throws Exception {
+            createTestThesis("Distributed Ledger Thesis");
+            createTestThesis("Another Thesis");
+
+            mockMvc.perform(MockMvcRequestBuilders.get("/v2/theses")
+                            .header("Authorization", createRandomAdminAuthentication())
+                            .param("fetchAll", "true")
+                            .param("search", "ledg"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(equalTo(1))))
+                    .andExpect(jsonPath("$.content[0].title").value("Distributed Ledger Thesis"));
+
+            mockMvc.perform(MockMvcRequestBuilders.get("/v2/theses")
+                            .header("Authorization", createRandomAdminAuthentication())
+                            .param("fetchAll", "true")
+                            .param("search", "supervisor@example"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(equalTo(2))));
+        }
+
+        @Test
+        void getThesisSummaries_ReturnsMembers() throws Exception {
+            createTestThesis("Summary Thesis");
+
+            mockMvc.perform(MockMvcRequestBuilders.get("/v2/theses/summaries")
+                            .header("Authorization", createRandomAdminAuthentication())
+                            .param("fetchAll", "true"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(equalTo(1))))
+                    .andExpect(jsonPath("$.content[0].title").value("Summary Thesis"))
+                    .andExpect(jsonPath("$.content[0].state").value("PROPOSAL"))
+                    .andExpect(jsonPath("$.content[0].students[0].universityId").value("supervisor"))
+                    .andExpect(jsonPath("$.content[0].supervisors[0].universityId").value("supervisor"))
+                    .andExpect(jsonPath("$.totalElements").value(1));
+        }
+
+        @Test
+        void getThesisSuggestions_ReturnsTitlesWithStudents() throws Exception {
+            createTestThesis("Distributed Ledger Thesis");
+            createTestThesis("Another Thesis");
+
+            mockMvc.perform(MockMvcRequestBuilders.get("/v2/theses/suggestions")
+                            .header("Authorization", createRandomAdminAuthentication())
+                            .param("searchQuery", "ledger"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(equalTo(1))))
+                    .andExpect(jsonPath("$[0].title").value("Distributed Ledger Thesis"))
+                    .andExpect(jsonPath("$[0].students", hasSize(equalTo(1))));
+        }
+
+        @Test
+        void getThesisFacets_WithTypeFilter_CountsOtherTypes() throws Exception {
+            createTestThesis("First Thesis");
+            createTestThesis("Second Thesis");
+
+            mockMvc.perform(MockMvcRequestBuilders.get("/v2/theses/facets")
+                            .header("Authorization", createRandomAdminAuthentication())
+                            .param("fetchAll", "true")
+                            .param("type", "BACHELOR"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.total").value(0))
+                    .andExpect(jsonPath("$.types.MASTER").value(2))
+                    .andExpect(jsonPath("$.states.PROPOSAL").value(0));
+        }
+
         @Test
         void createThesis_Success() throws Exception {
             UUID advisorId = createTestUser("supervisor", List.of("supervisor", "advisor"));
@@ -1,5 +1,6 @@
 package thesistrack.ls1.controller;
 
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -10,9 +11,11 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import thesistrack.ls1.constants.ApplicationRejectReason;
 import thesistrack.ls1.controller.payload.CloseTopicPayload;
+import thesistrack.ls1.controller.payload.CreateApplicationPayload;
 import thesistrack.ls1.controller.payload.ReplaceTopicPayload;
 import thesistrack.ls1.mock.BaseIntegrationTest;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -40,6 +43,20 @@ class TopicControllerTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.totalElements", isA(Number.class)));
     }
 
+    @Test
+    void getTopicSummaries_ReturnsMembers() throws Exception {
+        createTestTopic("Summary Topic");
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/v2/topics/summaries")
+                        .header("Authorization", createRandomAdminAuthentication()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(equalTo(1))))
+                .andExpect(jsonPath("$.content[0].title").value("Summary Topic"))
+                .andExpect(jsonPath("$.content[0].thesisTypes[0]").value("MASTER"))
+                .andExpect(jsonPath("$.content[0].advisors[0].universityId").value("supervisor"))
+                .andExpect(jsonPath("$.totalElements").value(1));
+    }
+
     @Test
     void getTopic_Success() throws Exception {
         UUID topicId = createTestTopic("Test Topic");
@@ -140,6 +157,86 @@ class TopicControllerTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.closedAt").value(notNullValue(String.class)));
     }
 
+    @Test
+    void closeTopic_WithPendingApplications_RejectsApplications() throws Exception {
+        UUID topicId = createTestTopic("Test Topic");
+        UUID firstApplicationId = createTopicApplication(topicId);
+        UUID secondApplicationId = createTopicApplication(topicId);
+
+        CloseTopicPayload closePayload = new CloseTopicPayload(
+                ApplicationRejectReason.TOPIC_FILLED,
+                true
+        );
+
+        mockMvc.perform(MockMvcRequestBuilders.delete("/v2/topics/{topicId}", topicId)
+                        .header("Authorization", createRandomAdminAuthentication())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(closePayload)))
+                .andExpect(status().isOk());
+
+        for (UUID applicationId : List.of(firstApplicationId, secondApplicationId)) {
+            mockMvc.perform(MockMvcRequestBuilders.get("/v2/applications/{applicationId}", applicationId)
+                            .header("Authorization", createRandomAdminAuthentication()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.state").value("REJECTED"))
+                    .andExpect(jsonPath("$.rejectReason").value("TOPIC_FILLED"))
+                    .andExpect(jsonPath("$.reviewedAt").value(notNullValue(String.class)))
+                    .andExpect(jsonPath("$.reviewers", hasSize(1)))
+                    .andExpect(jsonPath("$.reviewers[0].reason").value("NOT_INTERESTED"));
+        }
+    }
+
+    @Test
+    void closeTopic_WithFailedStudentRequirements_RejectsOtherApplicationsOfApplicants() throws Exception {
+        UUID topicId = createTestTopic("Test Topic");
+        String studentAuthorization = createRandomAuthentication("student");
+        UUID topicApplicationId = createTopicApplication(topicId, studentAuthorization);
+        UUID otherApplicationId = createTestApplication(studentAuthorization, "Other Application");
+        UUID unrelatedApplicationId = createTestApplication(createRandomAuthentication("student"), "Unrelated Application");
+
+        CloseTopicPayload closePayload = new CloseTopicPayload(
+                ApplicationRejectReason.FAILED_STUDENT_REQUIREMENTS,
+                true
+        );
+
+        mockMvc.perform(MockMvcRequestBuilders.delete("/v2/topics/{topicId}", topicId)
+                        .header("Authorization", createRandomAdminAuthentication())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(closePayload)))
+                .andExpect(status().isOk());
+
+        for (UUID applicationId : List.of(topicApplicationId, otherApplicationId)) {
+            mockMvc.perform(MockMvcRequestBuilders.get("/v2/applications/{applicationId}", applicationId)
+                            .header("Authorization", createRandomAdminAuthentication()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.state").value("REJECTED"))
+                    .andExpect(jsonPath("$.rejectReason").value("FAILED_STUDENT_REQUIREMENTS"))
+                    .andExpect(jsonPath("$.reviewers", hasSize(1)));
+        }
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/v2/applications/{applicationId}", unrelatedApplicationId)
+                        .header("Authorization", createRandomAdminAuthentication()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("NOT_ASSESSED"));
+    }
+
+    @Test
+    void getTopics_WithoutTotal_ReturnsSlice() throws Exception {
+        createTestTopic("Topic 1");
+        createTestTopic("Topic 2");
+        createTestTopic("Topic 3");
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/v2/topics")
+                        .header("Authorization", createRandomAdminAuthentication())
+                        .param("limit", "2")
+                        .param("withTotal", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.mode").value("SLICE"))
+                .andExpect(jsonPath("$.last").value(false))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
     @Test
     void getTopics_WithPagination_Success() throws Exception {
         // Create multiple test topics
@@ -172,4 +269,68 @@ class TopicControllerTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.content", hasSize(equalTo(1))))
                 .andExpect(jsonPath("$.content[0].title", containsString("Specific")));
     }
+
+    @Test
+    void getTopics_WithSearchInContent_RanksTitleMatchesFirst() throws Exception {
+        createTestTopic("Unrelated Topic");
+        createTopicWithProblemStatement("Compiler Optimization", "Improve register allocation");
+        createTopicWithProblemStatement("Register Allocation Heuristics", "Evaluate existing approaches");
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/v2/topics")
+                        .header("Authorization", createRandomAdminAuthentication())
+                        .param("search", "register alloc")
+                        .param("page", "0")
+                        .param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(equalTo(2))))
+                .andExpect(jsonPath("$.content[0].title").value("Register Allocation Heuristics"))
+                .andExpect(jsonPath("$.content[1].title").value("Compiler Optimization"))
+                .andExpect(jsonPath("$.totalElements").value(2));
+    }
+
+    private void createTopicWithProblemStatement(String title, String problemStatement) throws Exception {
+        UUID advisorId = createTestUser("supervisor", List.of("supervisor", "advisor"));
+
+        ReplaceTopicPayload payload = new ReplaceTopicPayload(
+                title,
+                Set.of("MASTER"),
+                problemStatement,
+                "Test Requirements",
+                "Test Goals",
+                "Test References",
+                List.of(advisorId),
+                List.of(advisorId)
+        );
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/v2/topics")
+                        .header("Authorization", createRandomAdminAuthentication())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(payload)))
+                .andExpect(status().isOk());
+    }
+
+    private UUID createTopicApplication(UUID topicId) throws Exception {
+        return createTopicApplication(topicId, createRandomAuthentication("student"));
+    }
+
+    private UUID createTopicApplication(UUID topicId, String authorization) throws Exception {
+        CreateApplicationPayload payload = new CreateApplicationPayload(
+                topicId,
+                null,
+                "MASTER",
+                Instant.now(),
+                "Test motivation"
+        );
+
+        String response = mockMvc.perform(MockMvcRequestBuilders.post("/v2/applications")
+                        .header("Authorization", authorization)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(payload)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        return UUID.fromString(JsonPath.parse(response).read("$.applicationId", String.class));
+    }
 }
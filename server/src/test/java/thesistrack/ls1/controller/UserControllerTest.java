@@ -33,6 +33,46 @@ public class UserControllerTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.totalElements", isA(Number.class)));
     }
 
+    @Test
+    void getUsers_WithSearchQuery_RanksExactAndPrefixMatchesFirst() throws Exception {
+        createTestUser("xsearchuser", List.of("student"));
+        createTestUser("searchuser1", List.of("student"));
+        createTestUser("searchuser", List.of("student"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/v2/users")
+                        .header("Authorization", createRandomAdminAuthentication())
+                        .param("searchQuery", "SearchUser"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(equalTo(3))))
+                .andExpect(jsonPath("$.totalElements").value(3))
+                .andExpect(jsonPath("$.content[0].universityId").value("searchuser"))
+                .andExpect(jsonPath("$.content[1].universityId").value("searchuser1"))
+                .andExpect(jsonPath("$.content[2].universityId").value("xsearchuser"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/v2/users")
+                        .header("Authorization", createRandomAdminAuthentication())
+                        .param("searchQuery", "searchuser")
+                        .param("groups", "supervisor"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(equalTo(0))));
+    }
+
+    @Test
+    void getUserSuggestions_ReturnsPrefixMatchesFirst() throws Exception {
+        createTestUser("xsuggestuser", List.of("student"));
+        createTestUser("suggestuser", List.of("student"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/v2/users/suggestions")
+                        .header("Authorization", createRandomAdminAuthentication())
+                        .param("searchQuery", "suggestuser"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(equalTo(2))))
+                .andExpect(jsonPath("$[0].universityId").value("suggestuser"))
+                .andExpect(jsonPath("$[0].avatar").exists())
+                .andExpect(jsonPath("$[0].customData").doesNotExist())
+                .andExpect(jsonPath("$[1].universityId").value("xsuggestuser"));
+    }
+
     @Test
     void getUsers_AsStudent_Forbidden() throws Exception {
         mockMvc.perform(MockMvcRequestBuilders.get("/v2/users")
@@ -0,0 +1,80 @@
+package thesistrack.ls1.entity;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import thesistrack.ls1.entity.key.UserGroupId;
+import thesistrack.ls1.mock.BaseIntegrationTest;
+import thesistrack.ls1.repository.UserGroupRepository;
+import thesistrack.ls1.repository.UserRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Testcontainers
+class AssignedIdEntityTest extends BaseIntegrationTest {
+    @DynamicPropertySource
+    static void configureDynamicProperties(DynamicPropertyRegistry registry) {
+        configureProperties(registry);
+    }
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserGroupRepository userGroupRepository;
+
+    private Statistics statistics;
+
+    @BeforeAll
+    void enableStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void saveAll_NewEntities_InsertsInOneBatchWithoutSelect() throws Exception {
+        UUID userId = createTestUser("batch-user", List.of("student"));
+        List<String> groups = List.of("advisor", "supervisor", "admin");
+
+        statistics.clear();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            User user = userRepository.getReferenceById(userId);
+
+            userGroupRepository.saveAll(groups.stream().map(group -> createUserGroup(user, group)).toList());
+        });
+
+        assertEquals(groups.size(), statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private UserGroup createUserGroup(User user, String group) {
+        UserGroupId id = new UserGroupId();
+        id.setUserId(user.getId());
+        id.setGroup(group);
+
+        UserGroup userGroup = new UserGroup();
+        userGroup.setId(id);
+        userGroup.setUser(user);
+
+        return userGroup;
+    }
+}
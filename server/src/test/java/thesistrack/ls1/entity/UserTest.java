@@ -0,0 +1,53 @@
+package thesistrack.ls1.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserTest {
+    @Test
+    void setEmail_ComputesGravatarHash() {
+        User user = new User();
+        user.setEmail(" MyEmailAddress@example.com ");
+
+        assertEquals("0bc83cb571cd1c50ba6f3e8a78ef1346", user.getGravatarHash());
+        assertEquals("https://www.gravatar.com/avatar/0bc83cb571cd1c50ba6f3e8a78ef1346?s=400", user.getAdjustedAvatar());
+    }
+
+    @Test
+    void setEmail_WithControlCharactersAndTurkishLocale_MatchesDatabaseHash() {
+        Locale defaultLocale = Locale.getDefault();
+
+        try {
+            Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+
+            User user = new User();
+            user.setEmail("\tMYEMAILADDRESS@EXAMPLE.COM\n");
+
+            assertEquals("0bc83cb571cd1c50ba6f3e8a78ef1346", user.getGravatarHash());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    void getAdjustedAvatar_WithUploadedAvatar_PrefersAvatar() {
+        User user = new User();
+        user.setEmail("test@example.com");
+        user.setAvatar("avatar.png");
+
+        assertEquals("avatar.png", user.getAdjustedAvatar());
+    }
+
+    @Test
+    void setEmail_WithNull_ClearsGravatarHash() {
+        User user = new User();
+        user.setEmail("test@example.com");
+        user.setEmail(null);
+
+        assertNull(user.getGravatarHash());
+        assertNull(user.getAdjustedAvatar());
+    }
+}
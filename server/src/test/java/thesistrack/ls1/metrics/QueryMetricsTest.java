@@ -0,0 +1,76 @@
+package thesistrack.ls1.metrics;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.Test;
+import thesistrack.ls1.dto.SlowQueryDto;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryMetricsTest {
+    @Test
+    void afterQuery_WithNestedScopes_CountsStatementInEveryScope() {
+        QueryMetrics queryMetrics = new QueryMetrics(10);
+
+        QueryStatistics request = queryMetrics.openScope();
+        QueryStatistics repository = queryMetrics.openScope();
+        executeQuery(queryMetrics, "SELECT * FROM users WHERE user_id = ?", 5);
+        queryMetrics.closeScope(repository);
+
+        executeQuery(queryMetrics, "SELECT * FROM topics WHERE topic_id = ?", 7);
+        queryMetrics.closeScope(request);
+
+        executeQuery(queryMetrics, "SELECT * FROM theses WHERE thesis_id = ?", 3);
+
+        assertEquals(1, repository.getStatements());
+        assertEquals(5, repository.getElapsedTimeMillis());
+        assertEquals(2, request.getStatements());
+        assertEquals(12, request.getElapsedTimeMillis());
+    }
+
+    @Test
+    void recordRows_WithNestedScopes_CountsRowsInEveryOpenScope() {
+        QueryMetrics queryMetrics = new QueryMetrics(10);
+
+        QueryStatistics request = queryMetrics.openScope();
+        QueryStatistics repository = queryMetrics.openScope();
+        queryMetrics.recordRows(20);
+        queryMetrics.closeScope(repository);
+
+        queryMetrics.recordRows(1);
+        queryMetrics.closeScope(request);
+
+        queryMetrics.recordRows(5);
+
+        assertEquals(20, repository.getRows());
+        assertEquals(21, request.getRows());
+    }
+
+    @Test
+    void getSlowestQueries_WithMultipleQueries_ReturnsTopQueriesByMaxTime() {
+        QueryMetrics queryMetrics = new QueryMetrics(2);
+
+        executeQuery(queryMetrics, "SELECT * FROM users WHERE user_id IN (?, ?)", 10);
+        executeQuery(queryMetrics, "SELECT * FROM users WHERE user_id IN (?, ?, ?)", 30);
+        executeQuery(queryMetrics, "SELECT * FROM topics", 20);
+        executeQuery(queryMetrics, "SELECT * FROM theses", 1);
+
+        List<SlowQueryDto> result = queryMetrics.getSlowestQueries();
+
+        assertEquals(2, result.size());
+        assertEquals("SELECT * FROM users WHERE user_id IN (?)", result.get(0).query());
+        assertEquals(2, result.get(0).executions());
+        assertEquals(40, result.get(0).totalTimeMillis());
+        assertEquals(30, result.get(0).maxTimeMillis());
+        assertEquals("SELECT * FROM topics", result.get(1).query());
+    }
+
+    private void executeQuery(QueryMetrics queryMetrics, String query, long elapsedTime) {
+        ExecutionInfo executionInfo = new ExecutionInfo();
+        executionInfo.setElapsedTime(elapsedTime);
+
+        queryMetrics.afterQuery(executionInfo, List.of(new QueryInfo(query)));
+    }
+}
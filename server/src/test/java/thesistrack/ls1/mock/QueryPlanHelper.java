@@ -0,0 +1,193 @@
+package thesistrack.ls1.mock;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.ChainListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class QueryPlanHelper {
+    public record PlanNode(String nodeType, String joinType, String relationName, String indexName, List<PlanNode> children) {
+        public boolean scansIndex(String index) {
+            return index.equals(indexName) || children.stream().anyMatch(child -> child.scansIndex(index));
+        }
+
+        @Override
+        public String toString() {
+            return nodeType + (joinType == null ? "" : " " + joinType) +
+                    (relationName == null ? "" : " on " + relationName) +
+                    (indexName == null ? "" : " using " + indexName) +
+                    (children.isEmpty() ? "" : " " + children);
+        }
+    }
+
+    public record CapturedStatement(String sql, List<ParameterSetOperation> parameters) { }
+
+    private interface PlanQuery {
+        String run(Connection connection) throws Exception;
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public QueryPlanHelper(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public static String getNativeQuery(Class<?> repository, String methodName) {
+        for (Method method : repository.getMethods()) {
+            Query query = method.getAnnotation(Query.class);
+
+            if (method.getName().equals(methodName) && query != null && query.nativeQuery()) {
+                return query.value();
+            }
+        }
+
+        throw new IllegalArgumentException("No native query found for " + repository.getSimpleName() + "." + methodName);
+    }
+
+    /**
+     * Runs EXPLAIN (FORMAT JSON) with sequential scans disabled, so the plan shows whether an index can serve the query.
+     * Array parameters have to be passed as postgres array literals, e.g. "{NOT_ASSESSED}".
+     */
+    public List<PlanNode> explain(String sql, Map<String, Object> parameters) {
+        return explain(sql, parameters, true);
+    }
+
+    /**
+     * Returns all plan nodes in pre-order. Without disabling sequential scans the plan is the one the planner
+     * actually picks for the seeded data.
+     */
+    public List<PlanNode> explain(String sql, Map<String, Object> parameters, boolean disableSequentialScans) {
+        return explain(sql, disableSequentialScans, connection -> {
+            NamedParameterJdbcTemplate template = new NamedParameterJdbcTemplate(new SingleConnectionDataSource(connection, true));
+
+            return template.queryForObject("EXPLAIN (FORMAT JSON) " + sql, parameters, String.class);
+        });
+    }
+
+    /**
+     * Explains a statement captured with {@link #captureStatements} by binding its parameters exactly as Hibernate did.
+     */
+    public List<PlanNode> explain(CapturedStatement captured) {
+        return explain(captured.sql(), true, connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN (FORMAT JSON) " + captured.sql())) {
+                for (ParameterSetOperation parameter : captured.parameters()) {
+                    parameter.getMethod().invoke(statement, parameter.getArgs());
+                }
+
+                try (ResultSet result = statement.executeQuery()) {
+                    result.next();
+
+                    return result.getString(1);
+                }
+            }
+        });
+    }
+
+    /**
+     * Runs the action and returns every statement it sent through the data source together with its bound parameters,
+     * so that the SQL Hibernate generates for JPQL queries can be explained like a native query.
+     */
+    public static List<CapturedStatement> captureStatements(DataSource dataSource, Runnable action) {
+        if (!(dataSource instanceof ProxyDataSource proxyDataSource)) {
+            throw new IllegalStateException("Statements can only be captured on the proxied data source");
+        }
+
+        List<CapturedStatement> statements = new ArrayList<>();
+        QueryExecutionListener listener = new QueryExecutionListener() {
+            @Override
+            public void beforeQuery(ExecutionInfo executionInfo, List<QueryInfo> queries) {
+            }
+
+            @Override
+            public void afterQuery(ExecutionInfo executionInfo, List<QueryInfo> queries) {
+                for (QueryInfo query : queries) {
+                    List<List<ParameterSetOperation>> parameters = query.getParametersList();
+
+                    statements.add(new CapturedStatement(query.getQuery(), parameters.isEmpty() ? List.of() : parameters.getFirst()));
+                }
+            }
+        };
+
+        ChainListener listeners = proxyDataSource.getProxyConfig().getQueryListener();
+        listeners.addListener(listener);
+
+        try {
+            action.run();
+        } finally {
+            listeners.getListeners().remove(listener);
+        }
+
+        return statements;
+    }
+
+    private List<PlanNode> explain(String sql, boolean disableSequentialScans, PlanQuery query) {
+        return jdbcTemplate.execute((ConnectionCallback<List<PlanNode>>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(disableSequentialScans ? "SET enable_seqscan = off" : "SET enable_seqscan = on");
+            }
+
+            try {
+                String plan = query.run(connection);
+
+                List<PlanNode> nodes = new ArrayList<>();
+                collectNodes(objectMapper.readTree(plan).get(0).get("Plan"), nodes);
+
+                return nodes;
+            } catch (Exception e) {
+                throw new IllegalStateException("Failed to explain query: " + sql, e);
+            } finally {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("RESET enable_seqscan");
+                }
+            }
+        });
+    }
+
+        public static boolean hasSequentialScan(List<PlanNode> nodes) {
+        return nodes.stream().anyMatch(node -> node.nodeType().equals("Seq Scan"));
+    }
+
+    public static boolean usesAnyIndex(List<PlanNode> nodes, String... indexNames) {
+        return nodes.stream().anyMatch(node -> node.indexName() != null && List.of(indexNames).contains(node.indexName()));
+    }
+
+    private PlanNode collectNodes(JsonNode plan, List<PlanNode> nodes) {
+        List<PlanNode> children = new ArrayList<>();
+        int position = nodes.size();
+
+        for (JsonNode child : plan.path("Plans")) {
+            children.add(collectNodes(child, nodes));
+        }
+
+        PlanNode node = new PlanNode(
+                plan.path("Node Type").asText(),
+                plan.hasNonNull("Join Type") ? plan.get("Join Type").asText() : null,
+                plan.hasNonNull("Relation Name") ? plan.get("Relation Name").asText() : null,
+                plan.hasNonNull("Index Name") ? plan.get("Index Name").asText() : null,
+                children
+        );
+        nodes.add(position, node);
+
+        return node;
+    }
+}
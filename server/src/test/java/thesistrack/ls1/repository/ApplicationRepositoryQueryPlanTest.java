@@ -0,0 +1,129 @@
+package thesistrack.ls1.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import thesistrack.ls1.mock.BaseIntegrationTest;
+import thesistrack.ls1.mock.QueryPlanHelper;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Testcontainers
+class ApplicationRepositoryQueryPlanTest extends BaseIntegrationTest {
+    @DynamicPropertySource
+    static void configureDynamicProperties(DynamicPropertyRegistry registry) {
+        configureProperties(registry);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static final String REVIEWER_INDEX = "idx_application_reviewers_user_reason";
+    private static final String STATE_INDEX = "idx_applications_state_topic_created_at";
+    private static final Set<String> EXCLUDING_JOIN_TYPES = Set.of("Anti", "Right Anti", "Left", "Right");
+
+    private QueryPlanHelper queryPlanHelper;
+
+    private final UUID reviewerId = UUID.randomUUID();
+
+    @BeforeEach
+    void seedApplications() {
+        queryPlanHelper = new QueryPlanHelper(jdbcTemplate);
+
+        jdbcTemplate.update(
+                "INSERT INTO users (user_id, university_id, updated_at, joined_at) VALUES (?, 'reviewer', NOW(), NOW())",
+                reviewerId
+        );
+        jdbcTemplate.update(
+                "INSERT INTO users (user_id, university_id, first_name, last_name, email, updated_at, joined_at) " +
+                "SELECT gen_random_uuid(), 'student' || i, 'First' || i, 'Last' || i, 'student' || i || '@example.com', NOW(), NOW() " +
+                "FROM generate_series(1, 5000) i"
+        );
+        jdbcTemplate.update(
+                "INSERT INTO applications (application_id, user_id, thesis_title, thesis_type, motivation, state, desired_start_date, created_at) " +
+                "SELECT gen_random_uuid(), u.user_id, 'Thesis', 'MASTER', 'Motivation', " +
+                "CASE WHEN random() < 0.01 THEN 'NOT_ASSESSED' ELSE 'REJECTED' END, NOW(), NOW() - random() * INTERVAL '365 days' " +
+                "FROM users u WHERE u.university_id LIKE 'student%'"
+        );
+        jdbcTemplate.update(
+                "INSERT INTO application_reviewers (application_id, user_id, reason, reviewed_at) " +
+                "SELECT a.application_id, ?, CASE WHEN random() < 0.5 THEN 'NOT_INTERESTED' ELSE 'INTERESTED' END, NOW() " +
+                "FROM applications a WHERE random() < 0.5",
+                reviewerId
+        );
+        // reviews of other advisors make reading the whole reviewer table clearly more expensive than the index range
+        jdbcTemplate.update(
+                "INSERT INTO users (user_id, university_id, updated_at, joined_at) " +
+                "SELECT gen_random_uuid(), 'other-reviewer' || i, NOW(), NOW() FROM generate_series(1, 20) i"
+        );
+        jdbcTemplate.update(
+                "INSERT INTO application_reviewers (application_id, user_id, reason, reviewed_at) " +
+                "SELECT a.application_id, u.user_id, 'NOT_INTERESTED', NOW() " +
+                "FROM applications a CROSS JOIN users u WHERE u.university_id LIKE 'other-reviewer%'"
+        );
+        jdbcTemplate.execute("ANALYZE users, applications, application_reviewers");
+    }
+
+    @Test
+    void searchApplicationIds_ReviewerInbox_UsesStateIndex() {
+        String sql = QueryPlanHelper.getNativeQuery(ApplicationRepository.class, "searchApplicationIds") + " ORDER BY a.created_at DESC LIMIT 51";
+
+        List<QueryPlanHelper.PlanNode> plan = queryPlanHelper.explain(sql, createInboxParameters("{NOT_ASSESSED}"), false);
+
+        assertTrue(
+                QueryPlanHelper.usesAnyIndex(plan, STATE_INDEX),
+                "Reviewer inbox does not filter applications through " + STATE_INDEX + ": " + plan
+        );
+    }
+
+    @Test
+    void countApplications_ReviewerInbox_ExcludesThroughReviewerIndex() {
+        String sql = QueryPlanHelper.getNativeQuery(ApplicationRepository.class, "countApplications");
+
+        List<QueryPlanHelper.PlanNode> plan = queryPlanHelper.explain(sql, createInboxParameters(null), false);
+
+        assertTrue(
+                plan.stream().anyMatch(node -> EXCLUDING_JOIN_TYPES.contains(node.joinType()) && node.scansIndex(REVIEWER_INDEX)),
+                "Reviewer exclusion join does not read application_reviewers through " + REVIEWER_INDEX + ": " + plan
+        );
+    }
+
+    @Test
+    void countUnreviewedApplications_UsesStateIndex() {
+        String sql = QueryPlanHelper.getNativeQuery(ApplicationRepository.class, "countUnreviewedApplications");
+
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("userId", reviewerId.toString());
+
+        List<QueryPlanHelper.PlanNode> plan = queryPlanHelper.explain(sql, parameters, false);
+
+        assertTrue(
+                QueryPlanHelper.usesAnyIndex(plan, STATE_INDEX),
+                "Unreviewed count does not filter applications through " + STATE_INDEX + ": " + plan
+        );
+    }
+
+    private Map<String, Object> createInboxParameters(String states) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("userId", null);
+        parameters.put("reviewerId", reviewerId.toString());
+        parameters.put("searchQuery", null);
+        parameters.put("states", states);
+        parameters.put("previousIds", null);
+        parameters.put("topics", null);
+        parameters.put("types", null);
+        parameters.put("includeSuggestedTopics", true);
+
+        return parameters;
+    }
+}
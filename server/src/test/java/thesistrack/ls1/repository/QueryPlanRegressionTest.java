@@ -0,0 +1,427 @@
+package thesistrack.ls1.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ReflectionUtils;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import thesistrack.ls1.constants.ThesisCommentType;
+import thesistrack.ls1.constants.ThesisPresentationState;
+import thesistrack.ls1.constants.ThesisPresentationVisibility;
+import thesistrack.ls1.constants.ThesisRoleName;
+import thesistrack.ls1.constants.ThesisState;
+import thesistrack.ls1.mock.BaseIntegrationTest;
+import thesistrack.ls1.mock.QueryPlanHelper;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Testcontainers
+class QueryPlanRegressionTest extends BaseIntegrationTest {
+    @DynamicPropertySource
+    static void configureDynamicProperties(DynamicPropertyRegistry registry) {
+        configureProperties(registry);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private static final List<Class<?>> HOT_REPOSITORIES = List.of(
+            ThesisRepository.class,
+            ApplicationRepository.class,
+            TopicRepository.class,
+            UserRepository.class,
+            ThesisCommentRepository.class,
+            ThesisPresentationRepository.class,
+            ThesisRoleRepository.class,
+            TopicRoleRepository.class
+    );
+
+    private QueryPlanHelper queryPlanHelper;
+
+    private Map<String, Object> defaultParameters;
+    private Map<String, Object> defaultArguments;
+    private Map<String, QueryExpectation> expectations;
+
+    /**
+     * @param suffix appended to the text of a native query, e.g. the sort and limit that Spring adds for a Pageable
+     * @param parameters overrides of the default parameter values of a native query or the default arguments of a JPQL query.
+     *                   The Pageable of a JPQL query is overridden with the name "page"
+     * @param indexes the plan has to use at least one of them
+     */
+    private record QueryExpectation(String suffix, Map<String, Object> parameters, List<String> indexes) {
+        static QueryExpectation usesAny(String... indexes) {
+            return new QueryExpectation("", Map.of(), List.of(indexes));
+        }
+
+        QueryExpectation withSuffix(String suffix) {
+            return new QueryExpectation(suffix, parameters, indexes);
+        }
+
+        QueryExpectation with(String name, Object value) {
+            Map<String, Object> overrides = new HashMap<>(parameters);
+            overrides.put(name, value);
+
+            return new QueryExpectation(suffix, overrides, indexes);
+        }
+    }
+
+    @BeforeEach
+    void seedDatabase() {
+        queryPlanHelper = new QueryPlanHelper(jdbcTemplate);
+
+        jdbcTemplate.update(
+                "INSERT INTO users (user_id, university_id, first_name, last_name, email, updated_at, joined_at) " +
+                "SELECT gen_random_uuid(), 'user' || i, 'First' || i, 'Last' || i, 'user' || i || '@example.com', NOW(), NOW() " +
+                "FROM generate_series(1, 2000) i"
+        );
+        jdbcTemplate.update(
+                "INSERT INTO topics (topic_id, title, problem_statement, goals, \"references\", updated_at, created_at, created_by) " +
+                "SELECT gen_random_uuid(), 'Topic ' || i, 'Problem', 'Goals', 'References', NOW(), NOW(), (SELECT MIN(user_id) FROM users) " +
+                "FROM generate_series(1, 50) i"
+        );
+        jdbcTemplate.update(
+                "INSERT INTO theses (thesis_id, title, info, abstract, state, created_at) " +
+                "SELECT gen_random_uuid(), 'Thesis ' || i, '', '', 'WRITING', NOW() - random() * INTERVAL '730 days' " +
+                "FROM generate_series(1, 2000) i"
+        );
+        jdbcTemplate.update(
+                "INSERT INTO thesis_roles (thesis_id, user_id, role, assigned_at, assigned_by) " +
+                "SELECT t.thesis_id, u.user_id, 'STUDENT', NOW(), u.user_id " +
+                "FROM (SELECT thesis_id, ROW_NUMBER() OVER () AS n FROM theses) t " +
+                "JOIN (SELECT user_id, ROW_NUMBER() OVER () AS n FROM users) u ON (u.n = t.n)"
+        );
+        jdbcTemplate.update(
+                "INSERT INTO applications (application_id, user_id, topic_id, motivation, state, desired_start_date, created_at) " +
+                "SELECT gen_random_uuid(), u.user_id, tp.topic_id, 'Motivation', 'REJECTED', NOW(), NOW() - random() * INTERVAL '730 days' " +
+                "FROM users u " +
+                "JOIN (SELECT topic_id, ROW_NUMBER() OVER () - 1 AS n FROM topics) tp ON (tp.n = abs(hashtext(u.user_id::TEXT)) % 50)"
+        );
+        jdbcTemplate.update(
+                "INSERT INTO thesis_comments (comment_id, thesis_id, message, type, created_at, created_by) " +
+                "SELECT gen_random_uuid(), r.thesis_id, 'Comment', CASE WHEN i % 2 = 0 THEN 'THESIS' ELSE 'ADVISOR' END, " +
+                "NOW() - random() * INTERVAL '365 days', r.user_id " +
+                "FROM thesis_roles r, generate_series(1, 4) i"
+        );
+        jdbcTemplate.update(
+                "INSERT INTO thesis_presentations (presentation_id, thesis_id, type, location, scheduled_at, visibility, state, created_at, created_by) " +
+                "SELECT gen_random_uuid(), r.thesis_id, 'FINAL', 'Room', NOW() - INTERVAL '700 days' + random() * INTERVAL '730 days', " +
+                "CASE WHEN random() < 0.5 THEN 'PUBLIC' ELSE 'PRIVATE' END, CASE WHEN random() < 0.8 THEN 'SCHEDULED' ELSE 'DRAFTED' END, NOW(), r.user_id " +
+                "FROM thesis_roles r"
+        );
+        jdbcTemplate.execute("ANALYZE users, topics, theses, thesis_roles, applications, thesis_comments, thesis_presentations");
+
+        defaultParameters = createDefaultParameters();
+        defaultArguments = createDefaultArguments();
+        expectations = createExpectations();
+    }
+
+    @TestFactory
+    Stream<DynamicTest> queries_UseExpectedIndexes() {
+        List<Method> queries = HOT_REPOSITORIES.stream()
+                .flatMap(repository -> Arrays.stream(repository.getDeclaredMethods()))
+                .filter(method -> method.isAnnotationPresent(Query.class))
+                .sorted(Comparator.comparing(QueryPlanRegressionTest::getQueryKey))
+                .toList();
+
+        Set<String> queryKeys = queries.stream().map(QueryPlanRegressionTest::getQueryKey).collect(Collectors.toSet());
+        Set<String> staleExpectations = new TreeSet<>(expectations.keySet());
+        staleExpectations.removeAll(queryKeys);
+
+        assertTrue(staleExpectations.isEmpty(), "Expectations for queries that no longer exist: " + staleExpectations);
+
+        return queries.stream().map(method -> DynamicTest.dynamicTest(getQueryKey(method), () -> assertExpectedPlan(method)));
+    }
+
+    private void assertExpectedPlan(Method method) {
+        String queryKey = getQueryKey(method);
+        QueryExpectation expectation = expectations.get(queryKey);
+
+        assertNotNull(expectation, "No query plan expectation for " + queryKey + ", add one to this test");
+
+        List<QueryPlanHelper.PlanNode> plan = method.getAnnotation(Query.class).nativeQuery() ?
+                explainNativeQuery(method, expectation) :
+                explainJpqlQuery(method, expectation);
+
+        assertFalse(QueryPlanHelper.hasSequentialScan(plan), queryKey + " falls back to a sequential scan: " + plan);
+        assertTrue(
+                QueryPlanHelper.usesAnyIndex(plan, expectation.indexes().toArray(String[]::new)),
+                queryKey + " does not use any of " + expectation.indexes() + ": " + plan
+        );
+    }
+
+    private List<QueryPlanHelper.PlanNode> explainNativeQuery(Method method, QueryExpectation expectation) {
+        String sql = QueryPlanHelper.getNativeQuery(method.getDeclaringClass(), method.getName()) + expectation.suffix();
+
+        return queryPlanHelper.explain(sql, getParameters(method, expectation));
+    }
+
+    /**
+     * Calls the repository method and explains every statement Hibernate generated for it. The call runs in a transaction
+     * that is rolled back, and all caches are cleared before so that no statement is skipped because of a cache hit.
+     */
+    private List<QueryPlanHelper.PlanNode> explainJpqlQuery(Method method, QueryExpectation expectation) {
+        Object repository = applicationContext.getBean(method.getDeclaringClass());
+        Object[] arguments = getArguments(method, expectation);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        for (String cacheName : cacheManager.getCacheNames()) {
+            Objects.requireNonNull(cacheManager.getCache(cacheName)).clear();
+        }
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+
+        List<QueryPlanHelper.CapturedStatement> statements = QueryPlanHelper.captureStatements(dataSource, () ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    ReflectionUtils.invokeMethod(method, repository, arguments);
+                    status.setRollbackOnly();
+                })
+        );
+
+        assertFalse(statements.isEmpty(), getQueryKey(method) + " did not run any statement");
+
+        return statements.stream().flatMap(statement -> queryPlanHelper.explain(statement).stream()).toList();
+    }
+
+    private Object[] getArguments(Method method, QueryExpectation expectation) {
+        Parameter[] parameters = method.getParameters();
+        Object[] arguments = new Object[parameters.length];
+
+        for (int i = 0; i < parameters.length; i++) {
+            Param param = parameters[i].getAnnotation(Param.class);
+
+            if (Pageable.class.isAssignableFrom(parameters[i].getType())) {
+                arguments[i] = expectation.parameters().getOrDefault("page", PageRequest.of(0, 50));
+            } else if (param == null) {
+                fail("No sample value for parameter " + parameters[i].getName() + " of " + getQueryKey(method));
+            } else if (expectation.parameters().containsKey(param.value())) {
+                arguments[i] = expectation.parameters().get(param.value());
+            } else if (defaultArguments.containsKey(param.value())) {
+                arguments[i] = defaultArguments.get(param.value());
+            } else {
+                fail("No sample argument for parameter " + param.value() + " of " + getQueryKey(method));
+            }
+        }
+
+        return arguments;
+    }
+
+    private Map<String, Object> getParameters(Method method, QueryExpectation expectation) {
+        Map<String, Object> parameters = new HashMap<>();
+
+        for (Parameter parameter : method.getParameters()) {
+            Param param = parameter.getAnnotation(Param.class);
+
+            if (param == null) {
+                continue;
+            }
+
+            String name = param.value();
+
+            if (expectation.parameters().containsKey(name)) {
+                parameters.put(name, expectation.parameters().get(name));
+            } else if (defaultParameters.containsKey(name)) {
+                parameters.put(name, defaultParameters.get(name));
+            } else {
+                fail("No sample value for parameter " + name + " of " + getQueryKey(method));
+            }
+        }
+
+        return parameters;
+    }
+
+    /**
+     * Array parameters are passed as postgres array literals, timestamps as java.sql.Timestamp
+     * and uuids as UUID so that uncasted comparisons keep their column type.
+     */
+    private Map<String, Object> createDefaultParameters() {
+        Map<String, Object> parameters = new HashMap<>();
+        Timestamp now = Timestamp.from(Instant.now());
+
+        parameters.put("userId", jdbcTemplate.queryForObject("SELECT user_id FROM thesis_roles LIMIT 1", UUID.class));
+        parameters.put("reviewerId", null);
+        parameters.put("thesisId", jdbcTemplate.queryForObject("SELECT thesis_id FROM theses LIMIT 1", UUID.class));
+        parameters.put("topicId", jdbcTemplate.queryForObject("SELECT topic_id FROM topics LIMIT 1", UUID.class));
+        parameters.put("searchQuery", null);
+        parameters.put("searchTsQuery", null);
+        parameters.put("states", null);
+        parameters.put("types", null);
+        parameters.put("visibilities", null);
+        parameters.put("previousIds", null);
+        parameters.put("topics", null);
+        parameters.put("groups", null);
+        parameters.put("includeSuggestedTopics", true);
+        parameters.put("includeClosed", false);
+        parameters.put("cursorCreatedAt", null);
+        parameters.put("cursorJoinedAt", null);
+        parameters.put("cursorId", null);
+        parameters.put("ascending", false);
+        parameters.put("applicationIds", "{" + String.join(",", jdbcTemplate.queryForList("SELECT application_id::TEXT FROM applications LIMIT 20", String.class)) + "}");
+        parameters.put("rejectReason", "FAILED_TOPIC_REQUIREMENTS");
+        parameters.put("reviewedAt", now);
+
+        return parameters;
+    }
+
+    /**
+     * JPQL queries are called through the repository, so their arguments are the java values the services pass.
+     */
+    private Map<String, Object> createDefaultArguments() {
+        Map<String, Object> arguments = new HashMap<>();
+
+        arguments.put("userId", defaultParameters.get("userId"));
+        arguments.put("thesisId", defaultParameters.get("thesisId"));
+        arguments.put("topicId", defaultParameters.get("topicId"));
+        arguments.put("thesisIds", jdbcTemplate.queryForList("SELECT thesis_id FROM theses LIMIT 20", UUID.class));
+        arguments.put("topicIds", jdbcTemplate.queryForList("SELECT topic_id FROM topics LIMIT 20", UUID.class));
+        arguments.put("applicationIds", jdbcTemplate.queryForList("SELECT application_id FROM applications LIMIT 20", UUID.class));
+        arguments.put("universityId", "user12");
+        arguments.put("searchQuery", null);
+        arguments.put("groups", null);
+        arguments.put("roles", Set.of("student"));
+        arguments.put("role", ThesisRoleName.STUDENT);
+        arguments.put("roleNames", Set.of(ThesisRoleName.STUDENT));
+        arguments.put("states", null);
+        arguments.put("visibilities", null);
+        arguments.put("commentType", ThesisCommentType.ADVISOR);
+        arguments.put("time", Instant.now());
+
+        return arguments;
+    }
+
+    private Map<String, QueryExpectation> createExpectations() {
+        Map<String, QueryExpectation> expectations = new HashMap<>();
+        Timestamp now = Timestamp.from(Instant.now());
+
+        expectations.put("ThesisRepository.searchThesisIds", QueryExpectation.usesAny("idx_thesis_roles_user_id")
+                .withSuffix(", t.created_at DESC LIMIT 51"));
+        expectations.put("ThesisRepository.countTheses", QueryExpectation.usesAny("idx_thesis_roles_user_id"));
+        expectations.put("ThesisRepository.countThesisFacets", QueryExpectation.usesAny("idx_thesis_roles_user_id"));
+        expectations.put("ThesisRepository.findSummariesByIdIn", QueryExpectation.usesAny("theses_pkey"));
+        expectations.put("ThesisRepository.findActiveThesesForRole", QueryExpectation.usesAny("idx_thesis_roles_user_id")
+                .with("states", Set.of(ThesisState.WRITING, ThesisState.SUBMITTED)));
+        expectations.put("ThesisRepository.findThesisTitles", QueryExpectation.usesAny("idx_theses_search_text")
+                .with("searchQuery", "thesis 12")
+                .with("visibilities", "{PUBLIC}")
+                .withSuffix(" LIMIT 10"));
+        expectations.put("ThesisRepository.searchThesisIdsAfterCursor", QueryExpectation.usesAny("idx_theses_created_at_id")
+                .with("userId", null)
+                .with("cursorCreatedAt", now)
+                .with("cursorId", UUID.randomUUID())
+                .withSuffix(" ORDER BY t.created_at DESC, t.thesis_id DESC LIMIT 51"));
+
+        expectations.put("ApplicationRepository.searchApplicationIds", QueryExpectation.usesAny("idx_applications_user_id")
+                .withSuffix(" ORDER BY a.created_at DESC LIMIT 51"));
+        expectations.put("ApplicationRepository.countApplications", QueryExpectation.usesAny("idx_applications_user_id"));
+        expectations.put("ApplicationRepository.countApplicationFacets", QueryExpectation.usesAny("idx_applications_user_id"));
+        expectations.put("ApplicationRepository.searchApplicationIdsAfterCursor", QueryExpectation.usesAny("idx_applications_created_at_id")
+                .with("userId", null)
+                .with("cursorCreatedAt", now)
+                .with("cursorId", UUID.randomUUID())
+                .withSuffix(" ORDER BY a.created_at DESC, a.application_id DESC LIMIT 51"));
+        expectations.put("ApplicationRepository.countUnreviewedApplications", QueryExpectation.usesAny("idx_applications_state_topic_created_at"));
+        expectations.put("ApplicationRepository.rejectPendingApplicationsForTopic", QueryExpectation.usesAny(
+                "idx_applications_topic_id",
+                "idx_applications_state_topic_created_at"
+        ));
+        expectations.put("ApplicationRepository.rejectPendingApplicationsForUser", QueryExpectation.usesAny(
+                "idx_applications_user_id",
+                "idx_applications_state_topic_created_at"
+        ));
+        expectations.put("ApplicationRepository.rejectPendingApplicationsForApplicants", QueryExpectation.usesAny("idx_applications_user_id"));
+        expectations.put("ApplicationRepository.findSummariesByIdIn", QueryExpectation.usesAny("applications_pkey"));
+        expectations.put("ApplicationRepository.existsPendingApplication", QueryExpectation.usesAny(
+                "idx_applications_user_id",
+                "idx_applications_state_topic_created_at"
+        ));
+
+        QueryExpectation topicSearch = QueryExpectation.usesAny("idx_topics_search_vector", "idx_topics_title_trgm")
+                .with("searchQuery", "topic")
+                .with("searchTsQuery", "topic:*");
+        expectations.put("TopicRepository.searchTopics", topicSearch.withSuffix(" LIMIT 51"));
+        expectations.put("TopicRepository.searchTopicIds", topicSearch.withSuffix(" LIMIT 51"));
+        expectations.put("TopicRepository.countTopics", topicSearch);
+        expectations.put("TopicRepository.findSummariesByIdIn", QueryExpectation.usesAny("topics_pkey"));
+        expectations.put("TopicRepository.countOpenTopics", QueryExpectation.usesAny("topics_pkey"));
+
+        QueryExpectation userSearch = QueryExpectation.usesAny(
+                "idx_users_name_trgm",
+                "idx_users_email_trgm",
+                "idx_users_matriculation_number_trgm",
+                "idx_users_university_id_trgm"
+        ).with("searchQuery", "user12");
+        expectations.put("UserRepository.searchUsers", userSearch.withSuffix(" LIMIT 51"));
+        expectations.put("UserRepository.countUsers", userSearch);
+        expectations.put("UserRepository.searchUsersInGroups", QueryExpectation.usesAny("idx_user_groups_group")
+                .with("groups", "{student}")
+                .withSuffix(" LIMIT 51"));
+        expectations.put("UserRepository.countUsersInGroups", QueryExpectation.usesAny("idx_user_groups_group")
+                .with("groups", "{student}"));
+        expectations.put("UserRepository.searchUsersAfterCursor", QueryExpectation.usesAny("idx_users_joined_at_id")
+                .with("cursorJoinedAt", now)
+                .with("cursorId", UUID.randomUUID())
+                .withSuffix(" ORDER BY u.joined_at DESC, u.user_id DESC LIMIT 51"));
+        expectations.put("UserRepository.findIdByUniversityId", QueryExpectation.usesAny("idx_users_university_id"));
+        expectations.put("UserRepository.getRoleMembers", QueryExpectation.usesAny("idx_user_groups_group"));
+        expectations.put("UserRepository.findUserSuggestions", userSearch
+                .with("groups", Set.of("student"))
+                .with("page", PageRequest.of(0, 10)));
+
+        expectations.put("ThesisCommentRepository.searchComments", QueryExpectation.usesAny("idx_thesis_comments_thesis_type_created_at"));
+        expectations.put("ThesisCommentRepository.countComments", QueryExpectation.usesAny("idx_thesis_comments_thesis_type_created_at"));
+
+        expectations.put("ThesisPresentationRepository.findFuturePresentations", QueryExpectation.usesAny("idx_thesis_presentations_scheduled_at")
+                .with("states", Set.of(ThesisPresentationState.SCHEDULED))
+                .with("visibilities", Set.of(ThesisPresentationVisibility.PUBLIC))
+                .with("page", PageRequest.of(0, 50, Sort.by(Sort.Direction.ASC, "scheduledAt"))));
+        expectations.put("ThesisPresentationRepository.findAllPresentations", QueryExpectation.usesAny("idx_thesis_presentations_scheduled_at")
+                .with("visibilities", Set.of(ThesisPresentationVisibility.PUBLIC)));
+
+        expectations.put("ThesisRoleRepository.findNamesByThesisIdsAndRole", QueryExpectation.usesAny("thesis_roles_pkey"));
+        expectations.put("ThesisRoleRepository.findMembersByThesisIds", QueryExpectation.usesAny("thesis_roles_pkey"));
+        expectations.put("TopicRoleRepository.findMembersByTopicIds", QueryExpectation.usesAny("topic_roles_pkey"));
+
+        return expectations;
+    }
+
+    private static String getQueryKey(Method method) {
+        return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+    }
+}
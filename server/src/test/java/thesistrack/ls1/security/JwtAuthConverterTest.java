@@ -0,0 +1,85 @@
+package thesistrack.ls1.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class JwtAuthConverterTest {
+    private JwtGrantedAuthoritiesConverter grantedAuthoritiesConverter;
+    private JwtAuthConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        JwtAuthConfig config = new JwtAuthConfig();
+        config.setClientId("thesis-track-app");
+
+        grantedAuthoritiesConverter = spy(new JwtGrantedAuthoritiesConverter());
+        converter = new JwtAuthConverter(config, grantedAuthoritiesConverter);
+    }
+
+    @Test
+    void convert_WithClientRoles_ReturnsRoleAuthorities() {
+        AbstractAuthenticationToken result = converter.convert(createJwt("token-1", "value-1", List.of("student", "advisor")));
+
+        assertNotNull(result);
+        assertEquals("ab12cde", result.getName());
+        assertEquals(Set.of("ROLE_student", "ROLE_advisor", "SCOPE_openid"), getAuthorityNames(result));
+    }
+
+    @Test
+    void convert_SameTokenTwice_ReusesAuthoritiesButNotToken() {
+        Jwt jwt = createJwt("token-1", "value-1", List.of("student"));
+
+        AbstractAuthenticationToken first = converter.convert(jwt);
+        AbstractAuthenticationToken second = converter.convert(jwt);
+
+        assertNotNull(first);
+        assertNotNull(second);
+        assertNotSame(first, second);
+        assertEquals(getAuthorityNames(first), getAuthorityNames(second));
+        verify(grantedAuthoritiesConverter, times(1)).convert(jwt);
+    }
+
+    @Test
+    void convert_DifferentTokenWithSameId_DoesNotReuseAuthorities() {
+        converter.convert(createJwt("token-1", "value-1", List.of("student")));
+        AbstractAuthenticationToken result = converter.convert(createJwt("token-1", "value-2", List.of("admin")));
+
+        assertNotNull(result);
+        assertEquals(Set.of("ROLE_admin", "SCOPE_openid"), getAuthorityNames(result));
+        verify(grantedAuthoritiesConverter, times(2)).convert(any(Jwt.class));
+    }
+
+    private Jwt createJwt(String tokenId, String tokenValue, List<String> roles) {
+        return Jwt.withTokenValue(tokenValue)
+                .header("alg", "none")
+                .jti(tokenId)
+                .subject("ab12cde")
+                .expiresAt(Instant.now().plusSeconds(300))
+                .claim("preferred_username", "ab12cde")
+                .claim("scope", "openid")
+                .claim("resource_access", Map.of("thesis-track-app", Map.of("roles", roles)))
+                .build();
+    }
+
+    private Set<String> getAuthorityNames(AbstractAuthenticationToken token) {
+        return token.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,72 @@
+package thesistrack.ls1.security;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentJwkSourceTest {
+    private static final String UNREACHABLE_JWK_SET_URI = "http://localhost:1/realms/thesis-track/protocol/openid-connect/certs";
+    private static final String UPLOAD_LOCATION = "uploads";
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void get_WithCachedKeys_ReturnsKeyWithoutFetching() throws Exception {
+        RSAKey key = new RSAKeyGenerator(2048).keyID("known-key").generate();
+        Path cacheLocation = tempDir.resolve("jwks.json");
+        Files.writeString(cacheLocation, new JWKSet(key).toString(true));
+
+        PersistentJwkSource source = new PersistentJwkSource(UNREACHABLE_JWK_SET_URI, cacheLocation.toString(), UPLOAD_LOCATION);
+        List<JWK> result = source.get(createSelector("known-key"), null);
+
+        assertEquals(1, result.size());
+        assertEquals(key.toPublicJWK(), result.getFirst());
+    }
+
+    @Test
+    void get_WithUnknownKeyAndUnreachableServer_KeepsCachedKeys() throws Exception {
+        RSAKey key = new RSAKeyGenerator(2048).keyID("known-key").generate();
+        Path cacheLocation = tempDir.resolve("jwks.json");
+        Files.writeString(cacheLocation, new JWKSet(key).toString(true));
+
+        PersistentJwkSource source = new PersistentJwkSource(UNREACHABLE_JWK_SET_URI, cacheLocation.toString(), UPLOAD_LOCATION);
+
+        assertTrue(source.get(createSelector("rotated-key"), null).isEmpty());
+        assertEquals(1, source.get(createSelector("known-key"), null).size());
+    }
+
+    @Test
+    void get_WithoutCachedKeysAndUnreachableServer_ThrowsException() {
+        PersistentJwkSource source = new PersistentJwkSource(UNREACHABLE_JWK_SET_URI, tempDir.resolve("jwks.json").toString(), UPLOAD_LOCATION);
+
+        assertThrows(KeySourceException.class, () -> source.get(createSelector("known-key"), null));
+    }
+
+    @Test
+    void constructor_WithCacheLocationInsideUploadFolder_ThrowsException() {
+        Path uploadFolder = tempDir.resolve("uploads");
+
+        assertThrows(IllegalStateException.class, () -> new PersistentJwkSource(
+                UNREACHABLE_JWK_SET_URI,
+                uploadFolder.resolve("keycloak-jwks.json").toString(),
+                uploadFolder.toString()
+        ));
+    }
+
+    private JWKSelector createSelector(String keyId) {
+        return new JWKSelector(new JWKMatcher.Builder().keyID(keyId).build());
+    }
+}
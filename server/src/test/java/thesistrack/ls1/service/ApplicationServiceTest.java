@@ -1,16 +1,20 @@
 package thesistrack.ls1.service;
 
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import thesistrack.ls1.constants.ApplicationRejectReason;
 import thesistrack.ls1.constants.ApplicationReviewReason;
 import thesistrack.ls1.constants.ApplicationState;
+import thesistrack.ls1.dto.ApplicationStateDto;
 import thesistrack.ls1.entity.*;
 import thesistrack.ls1.entity.key.ApplicationReviewerId;
 import thesistrack.ls1.exception.request.ResourceInvalidParametersException;
@@ -24,7 +28,9 @@ import java.time.Instant;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +47,8 @@ class ApplicationServiceTest {
     private TopicService topicService;
     @Mock
     private ApplicationReviewerRepository applicationReviewerRepository;
+    @Mock
+    private EntityManager entityManager;
 
     private ApplicationService applicationService;
     private User testUser;
@@ -55,7 +63,8 @@ class ApplicationServiceTest {
                 topicRepository,
                 thesisService,
                 topicService,
-                applicationReviewerRepository
+                applicationReviewerRepository,
+                entityManager
         );
 
         testUser = EntityMockFactory.createUser("Test");
@@ -65,12 +74,12 @@ class ApplicationServiceTest {
 
     @Test
     void getAll_WithValidParameters_ReturnsPageOfApplications() {
-        Page<Application> expectedPage = new PageImpl<>(List.of(testApplication));
-        when(applicationRepository.searchApplications(
+        when(applicationRepository.searchApplicationIds(
                 any(), any(), any(), any(), any(), any(), any(), anyBoolean(), any(PageRequest.class)
-        )).thenReturn(expectedPage);
+        )).thenReturn(new PageImpl<>(List.of(testApplication.getId())));
+        when(applicationRepository.findAllByIdIn(List.of(testApplication.getId()))).thenReturn(List.of(testApplication));
 
-        Page<Application> result = applicationService.getAll(
+        Slice<Application> result = applicationService.getAll(
                 null,
                 null,
                 null,
@@ -81,13 +90,15 @@ class ApplicationServiceTest {
                 true,
                 0,
                 10,
+                true,
                 "createdAt",
                 "desc"
         );
 
         assertNotNull(result);
         assertEquals(1, result.getContent().size());
-        verify(applicationRepository).searchApplications(
+        assertEquals(testApplication, result.getContent().getFirst());
+        verify(applicationRepository).searchApplicationIds(
                 any(), any(), any(), any(), any(), any(), any(), anyBoolean(), any(PageRequest.class)
         );
     }
@@ -159,7 +170,7 @@ class ApplicationServiceTest {
         User reviewer = EntityMockFactory.createUser("Reviewer");
         when(applicationRepository.save(any(Application.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
-        List<Application> results = applicationService.reject(
+        List<ApplicationStateDto> results = applicationService.reject(
                 reviewer,
                 testApplication,
                 ApplicationRejectReason.TOPIC_FILLED,
@@ -167,8 +178,44 @@ class ApplicationServiceTest {
         );
 
         assertFalse(results.isEmpty());
-        assertEquals(ApplicationState.REJECTED, results.getFirst().getState());
+        assertEquals(ApplicationState.REJECTED, results.getFirst().state());
+        assertEquals(ApplicationState.REJECTED, testApplication.getState());
         verify(mailingService).sendApplicationRejectionEmail(any(), any());
+        verify(applicationRepository, never()).rejectPendingApplicationsForUser(any(), any(), any());
+    }
+
+    @Test
+    void reject_WithFailedStudentRequirements_RejectsPendingApplicationsOfUser() {
+        User reviewer = EntityMockFactory.createUser("Reviewer");
+        UUID pendingApplicationId = UUID.randomUUID();
+        when(applicationRepository.save(any(Application.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(applicationReviewerRepository.save(any(ApplicationReviewer.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(applicationRepository.rejectPendingApplicationsForUser(
+                eq(testApplication.getUser().getId()),
+                eq("FAILED_STUDENT_REQUIREMENTS"),
+                any(Instant.class)
+        )).thenReturn(List.of(pendingApplicationId));
+
+        List<ApplicationStateDto> results = applicationService.reject(
+                reviewer,
+                testApplication,
+                ApplicationRejectReason.FAILED_STUDENT_REQUIREMENTS,
+                false
+        );
+
+        Instant reviewedAt = testApplication.getReviewedAt();
+
+        assertEquals(List.of(
+                new ApplicationStateDto(testApplication.getId(), ApplicationState.REJECTED, ApplicationRejectReason.FAILED_STUDENT_REQUIREMENTS, reviewedAt),
+                new ApplicationStateDto(pendingApplicationId, ApplicationState.REJECTED, ApplicationRejectReason.FAILED_STUDENT_REQUIREMENTS, reviewedAt)
+        ), results);
+        verify(applicationReviewerRepository).upsertReviews(
+                aryEq(new UUID[]{pendingApplicationId}),
+                eq(reviewer.getId()),
+                eq("NOT_INTERESTED"),
+                eq(reviewedAt)
+        );
+        verifyNoInteractions(mailingService);
     }
 
     @Test
@@ -194,9 +241,10 @@ class ApplicationServiceTest {
     void closeTopic_WithValidData_ClosesTopicAndRejectsApplications() {
         User closer = new User();
         closer.setId(UUID.randomUUID());
-        List<Application> apllicationList = Arrays.asList(testApplication);
-        when(applicationRepository.findAllByTopic(testTopic)).thenReturn(apllicationList);
-        when(applicationRepository.save(any(Application.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        List<UUID> applicationIds = List.of(testApplication.getId());
+        when(applicationRepository.rejectPendingApplicationsForTopic(eq(testTopic.getId()), eq("TOPIC_FILLED"), any(Instant.class)))
+                .thenReturn(applicationIds);
+        when(applicationRepository.findAllByIdIn(applicationIds)).thenReturn(List.of(testApplication));
         when(topicRepository.save(any(Topic.class))).thenReturn(testTopic);
 
         Topic result = applicationService.closeTopic(
@@ -209,7 +257,74 @@ class ApplicationServiceTest {
         assertNotNull(result);
         assertNotNull(result.getClosedAt());
         verify(topicRepository).save(testTopic);
-        verify(applicationRepository).findAllByTopic(testTopic);
+        verify(applicationReviewerRepository).upsertReviews(
+                aryEq(new UUID[]{testApplication.getId()}),
+                eq(closer.getId()),
+                eq("NOT_INTERESTED"),
+                any(Instant.class)
+        );
+        verify(applicationRepository, never()).save(any(Application.class));
+        verify(applicationRepository, never()).rejectPendingApplicationsForApplicants(any(), any(), any());
+        verify(mailingService).sendApplicationRejectionEmail(testApplication, ApplicationRejectReason.TOPIC_FILLED);
+
+        InOrder inOrder = inOrder(entityManager, applicationRepository);
+        inOrder.verify(entityManager).flush();
+        inOrder.verify(applicationRepository).rejectPendingApplicationsForTopic(eq(testTopic.getId()), eq("TOPIC_FILLED"), any(Instant.class));
+        inOrder.verify(entityManager).detach(any());
+        inOrder.verify(applicationRepository).findAllByIdIn(applicationIds);
+    }
+
+    @Test
+    void rejectApplicationsForTopic_WithFailedStudentRequirements_RejectsPendingApplicationsOfApplicants() {
+        User closer = new User();
+        closer.setId(UUID.randomUUID());
+        Application otherApplication = EntityMockFactory.createApplication();
+        otherApplication.setUser(testApplication.getUser());
+        List<UUID> applicationIds = List.of(testApplication.getId(), otherApplication.getId());
+        when(applicationRepository.rejectPendingApplicationsForTopic(eq(testTopic.getId()), eq("FAILED_STUDENT_REQUIREMENTS"), any(Instant.class)))
+                .thenReturn(List.of(testApplication.getId()));
+        when(applicationRepository.rejectPendingApplicationsForApplicants(
+                aryEq(new UUID[]{testApplication.getId()}),
+                eq("FAILED_STUDENT_REQUIREMENTS"),
+                any(Instant.class)
+        )).thenReturn(List.of(otherApplication.getId()));
+        when(applicationRepository.findAllByIdIn(applicationIds)).thenReturn(List.of(testApplication, otherApplication));
+
+        List<Application> result = applicationService.rejectApplicationsForTopic(
+                closer,
+                testTopic,
+                ApplicationRejectReason.FAILED_STUDENT_REQUIREMENTS,
+                true
+        );
+
+        assertEquals(List.of(testApplication, otherApplication), result);
+        verify(applicationReviewerRepository).upsertReviews(
+                aryEq(new UUID[]{testApplication.getId(), otherApplication.getId()}),
+                eq(closer.getId()),
+                eq("NOT_INTERESTED"),
+                any(Instant.class)
+        );
+        verify(entityManager, times(2)).detach(any());
+        verify(mailingService).sendApplicationRejectionEmail(testApplication, ApplicationRejectReason.FAILED_STUDENT_REQUIREMENTS);
+        verify(mailingService, never()).sendApplicationRejectionEmail(otherApplication, ApplicationRejectReason.FAILED_STUDENT_REQUIREMENTS);
+    }
+
+    @Test
+    void rejectApplicationsForTopic_WithoutPendingApplications_SkipsReviewers() {
+        User closer = new User();
+        closer.setId(UUID.randomUUID());
+        when(applicationRepository.rejectPendingApplicationsForTopic(eq(testTopic.getId()), eq("TOPIC_FILLED"), any(Instant.class)))
+                .thenReturn(List.of());
+
+        List<Application> result = applicationService.rejectApplicationsForTopic(
+                closer,
+                testTopic,
+                ApplicationRejectReason.TOPIC_FILLED,
+                true
+        );
+
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(applicationReviewerRepository, mailingService);
     }
 
     @Test
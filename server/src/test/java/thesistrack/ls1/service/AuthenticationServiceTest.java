@@ -6,11 +6,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import thesistrack.ls1.constants.UploadFileType;
 import thesistrack.ls1.entity.NotificationSetting;
 import thesistrack.ls1.entity.User;
+import thesistrack.ls1.entity.UserGroup;
 import thesistrack.ls1.entity.key.NotificationSettingId;
+import thesistrack.ls1.exception.request.ResourceNotFoundException;
 import thesistrack.ls1.mock.EntityMockFactory;
 import thesistrack.ls1.repository.NotificationSettingRepository;
 import thesistrack.ls1.repository.UserGroupRepository;
@@ -56,6 +59,61 @@ class AuthenticationServiceTest {
         testUser = EntityMockFactory.createUser("Test");
     }
 
+    @Test
+    void getAuthenticatedUser_WithKnownSubject_LoadsUserById() {
+        when(jwtToken.getName()).thenReturn("test-user");
+        when(userRepository.findIdByUniversityId("test-user")).thenReturn(Optional.of(testUser.getId()));
+        when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
+
+        User result = authenticationService.getAuthenticatedUser(jwtToken);
+
+        assertEquals(testUser, result);
+        verify(userRepository, never()).findByUniversityId(any());
+    }
+
+    @Test
+    void getAuthenticatedUser_WithUnknownSubject_ThrowsNotFound() {
+        when(jwtToken.getName()).thenReturn("unknown-user");
+        when(userRepository.findIdByUniversityId("unknown-user")).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> authenticationService.getAuthenticatedUser(jwtToken));
+    }
+
+    @Test
+    void updateAuthenticatedUser_WithUnchangedClaims_SkipsWrites() {
+        testUser.setUniversityId("test-user");
+        EntityMockFactory.setupUserGroups(testUser, "student");
+        mockToken("test-user", "student");
+
+        when(userRepository.findByUniversityId("test-user")).thenReturn(Optional.of(testUser));
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        authenticationService.updateAuthenticatedUser(jwtToken);
+        User result = authenticationService.updateAuthenticatedUser(jwtToken);
+
+        assertEquals(testUser, result);
+        assertNotNull(testUser.getClaimsFingerprint());
+        verify(userRepository, times(1)).save(any(User.class));
+        verify(userGroupRepository, never()).deleteAll(any());
+        verify(userGroupRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void updateAuthenticatedUser_WithChangedGroups_SyncsOnlyDifference() {
+        testUser.setUniversityId("test-user");
+        EntityMockFactory.setupUserGroups(testUser, "student", "advisor");
+        mockToken("test-user", "advisor", "supervisor");
+
+        when(userRepository.findByUniversityId("test-user")).thenReturn(Optional.of(testUser));
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        authenticationService.updateAuthenticatedUser(jwtToken);
+
+        verify(userGroupRepository).deleteAll(argThat((Iterable<UserGroup> groups) -> getGroupNames(groups).equals(Set.of("student"))));
+        verify(userGroupRepository).saveAll(argThat((Iterable<UserGroup> groups) -> getGroupNames(groups).equals(Set.of("supervisor"))));
+        assertEquals(Set.of("advisor", "supervisor"), getGroupNames(testUser.getGroups()));
+    }
+
     @Test
     void updateUserInformation_WithAllFields_UpdatesUser() {
         MockMultipartFile avatar = new MockMultipartFile(
@@ -148,4 +206,22 @@ class AuthenticationServiceTest {
         assertEquals(email, result.getFirst().getEmail());
         verify(notificationSettingRepository).save(any(NotificationSetting.class));
     }
-}
\ No newline at end of file
+
+    private void mockToken(String universityId, String... groups) {
+        when(jwtToken.getName()).thenReturn(universityId);
+        when(jwtToken.getTokenAttributes()).thenReturn(Map.of(
+                "email", "test@example.com",
+                "given_name", "Test",
+                "family_name", "User"
+        ));
+        doReturn(Arrays.stream(groups).map(group -> new SimpleGrantedAuthority("ROLE_" + group)).toList())
+                .when(jwtToken).getAuthorities();
+    }
+
+    private Set<String> getGroupNames(Iterable<UserGroup> groups) {
+        Set<String> names = new HashSet<>();
+        groups.forEach(group -> names.add(group.getId().getGroup()));
+
+        return names;
+    }
+}
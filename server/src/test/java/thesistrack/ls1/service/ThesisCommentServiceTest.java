@@ -8,8 +8,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 import thesistrack.ls1.constants.ThesisCommentType;
@@ -70,29 +71,51 @@ class ThesisCommentServiceTest {
     }
 
     @Test
-    void getComments_ReturnsPageOfComments() {
-        Page<ThesisComment> expectedPage = new PageImpl<>(List.of(testComment));
+    void getComments_WithoutTotal_SkipsCount() {
+        Slice<ThesisComment> expectedSlice = new SliceImpl<>(List.of(testComment), PageRequest.of(0, 1), true);
         when(thesisCommentRepository.searchComments(
                 eq(testThesis.getId()),
                 eq(ThesisCommentType.THESIS),
                 any(PageRequest.class)
-        )).thenReturn(expectedPage);
+        )).thenReturn(expectedSlice);
 
-        Page<ThesisComment> result = commentService.getComments(
+        Slice<ThesisComment> result = commentService.getComments(
                 testThesis,
                 ThesisCommentType.THESIS,
                 0,
-                10
+                1,
+                false
         );
 
         assertNotNull(result);
+        assertFalse(result instanceof Page);
         assertEquals(1, result.getContent().size());
         assertEquals(testComment, result.getContent().getFirst());
-        verify(thesisCommentRepository).searchComments(
+        assertTrue(result.hasNext());
+        verify(thesisCommentRepository, never()).countComments(any(), any());
+    }
+
+    @Test
+    void getComments_WithTotal_ReturnsPageWithCount() {
+        Slice<ThesisComment> expectedSlice = new SliceImpl<>(List.of(testComment), PageRequest.of(0, 1), true);
+        when(thesisCommentRepository.searchComments(
                 eq(testThesis.getId()),
                 eq(ThesisCommentType.THESIS),
                 any(PageRequest.class)
+        )).thenReturn(expectedSlice);
+        when(thesisCommentRepository.countComments(testThesis.getId(), ThesisCommentType.THESIS)).thenReturn(3L);
+
+        Slice<ThesisComment> result = commentService.getComments(
+                testThesis,
+                ThesisCommentType.THESIS,
+                0,
+                1,
+                true
         );
+
+        Page<ThesisComment> page = assertInstanceOf(Page.class, result);
+        assertEquals(3, page.getTotalElements());
+        assertEquals(testComment, page.getContent().getFirst());
     }
 
     @Test
@@ -86,6 +86,8 @@ class ThesisServiceTest {
         assertEquals("Test Thesis", result.getTitle());
         assertEquals("Bachelor", result.getType());
         verify(thesisRepository).save(any(Thesis.class));
+        verify(thesisRoleRepository).saveAll(argThat(roles -> roles instanceof List<?> list && list.size() == 3));
+        verify(thesisRoleRepository, never()).save(any());
         verify(mailingService).sendThesisCreatedEmail(any(), eq(result));
         verify(accessManagementService).addStudentGroup(eq(student));
     }
@@ -197,8 +199,8 @@ class ThesisServiceTest {
         EntityMockFactory.setupThesisRole(testThesis, student, ThesisRoleName.STUDENT);
 
         when(thesisRepository.save(any(Thesis.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        when(thesisRepository.searchTheses(
-                any(), any(), any(), any(), any(), any()
+        when(thesisRepository.searchThesisIds(
+                any(), any(), any(), any(), any(), any(), any()
         )).thenReturn(new PageImpl<>(Collections.emptyList()));
 
         Thesis result = thesisService.completeThesis(testThesis);
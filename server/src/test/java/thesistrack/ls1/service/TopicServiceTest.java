@@ -9,6 +9,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import thesistrack.ls1.entity.Topic;
 import thesistrack.ls1.entity.TopicRole;
@@ -59,15 +60,17 @@ class TopicServiceTest {
                 any(),
                 anyBoolean(),
                 any(),
+                any(),
                 any(PageRequest.class)
         )).thenReturn(expectedPage);
 
-        Page<Topic> result = topicService.getAll(
+        Slice<Topic> result = topicService.getAll(
                 null,
                 true,
                 null,
                 0,
                 10,
+                true,
                 "title",
                 "asc"
         );
@@ -78,6 +81,7 @@ class TopicServiceTest {
                 eq(null),
                 eq(true),
                 eq(null),
+                eq(null),
                 eq(PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "title")))
         );
     }
@@ -9,6 +9,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import thesistrack.ls1.entity.User;
 import thesistrack.ls1.exception.request.ResourceNotFoundException;
@@ -41,16 +43,16 @@ class UserServiceTest {
         List<User> users = Collections.singletonList(testUser);
         Page<User> expectedPage = new PageImpl<>(users);
         when(userRepository.searchUsers(
-                any(),
                 any(),
                 any(PageRequest.class)
         )).thenReturn(expectedPage);
 
-        Page<User> result = userService.getAll(
+        Slice<User> result = userService.getAll(
                 null,
                 null,
                 0,
                 10,
+                true,
                 "id",
                 "asc"
         );
@@ -59,10 +61,53 @@ class UserServiceTest {
         assertEquals(1, result.getContent().size());
         assertEquals(testUser, result.getContent().getFirst());
         verify(userRepository).searchUsers(
+                any(),
+                eq(PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "user_id")))
+        );
+        verify(userRepository, never()).searchUsersInGroups(any(), any(), any());
+    }
+
+    @Test
+    void getAll_WithGroups_UsesGroupFilteredSearch() {
+        Page<User> expectedPage = new PageImpl<>(Collections.singletonList(testUser));
+        String[] groups = new String[]{"supervisor", "advisor"};
+        when(userRepository.searchUsersInGroups(
                 any(),
                 any(),
-                eq(PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "id")))
+                any(PageRequest.class)
+        )).thenReturn(expectedPage);
+
+        Slice<User> result = userService.getAll(
+                "  Test ",
+                groups,
+                0,
+                10,
+                false,
+                "joinedAt",
+                "desc"
         );
+
+        assertEquals(1, result.getContent().size());
+        assertFalse(result instanceof Page<User>);
+        verify(userRepository).searchUsersInGroups(
+                eq("test"),
+                eq(groups),
+                eq(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "joined_at")))
+        );
+        verify(userRepository, never()).searchUsers(any(), any());
+    }
+
+    @Test
+    void getAll_WithTotalAndFullPage_CountsMatchingUsers() {
+        when(userRepository.searchUsers(any(), any(PageRequest.class)))
+                .thenReturn(new SliceImpl<>(List.of(testUser), PageRequest.of(0, 1), true));
+        when(userRepository.countUsers("test")).thenReturn(5L);
+
+        Slice<User> result = userService.getAll("Test", null, 0, 1, true, "joinedAt", "desc");
+
+        Page<User> page = assertInstanceOf(Page.class, result);
+        assertEquals(5, page.getTotalElements());
+        assertEquals(5, page.getTotalPages());
     }
 
     @Test
@@ -0,0 +1,57 @@
+package thesistrack.ls1.utility;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import thesistrack.ls1.exception.request.ResourceInvalidParametersException;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorHelperTest {
+    @Test
+    void decode_WithEncodedCursor_ReturnsSortValueAndId() {
+        Instant sortValue = Instant.parse("2024-10-01T12:30:15.123456Z");
+        UUID id = UUID.randomUUID();
+
+        CursorHelper.Cursor cursor = CursorHelper.decode(CursorHelper.encode(sortValue, id));
+
+        assertNotNull(cursor);
+        assertEquals(sortValue, cursor.sortValue());
+        assertEquals(id, cursor.id());
+    }
+
+    @Test
+    void decode_WithEmptyCursor_ReturnsNull() {
+        assertNull(CursorHelper.decode(""));
+        assertNull(CursorHelper.decode(null));
+    }
+
+    @Test
+    void decode_WithMalformedCursor_ThrowsException() {
+        assertThrows(ResourceInvalidParametersException.class, () -> CursorHelper.decode("not-a-cursor"));
+        assertThrows(ResourceInvalidParametersException.class, () -> CursorHelper.decode("%%%"));
+    }
+
+    @Test
+    void nextCursor_WithLastSlice_ReturnsNull() {
+        SliceImpl<UUID> slice = new SliceImpl<>(List.of(UUID.randomUUID()), PageRequest.of(0, 10), false);
+
+        assertNull(CursorHelper.nextCursor(slice, item -> Instant.now(), item -> item));
+    }
+
+    @Test
+    void nextCursor_WithMoreElements_EncodesLastElement() {
+        UUID first = UUID.randomUUID();
+        UUID last = UUID.randomUUID();
+        Instant sortValue = Instant.parse("2024-10-01T00:00:00Z");
+        SliceImpl<UUID> slice = new SliceImpl<>(List.of(first, last), PageRequest.of(0, 2), true);
+
+        String nextCursor = CursorHelper.nextCursor(slice, item -> sortValue, item -> item);
+
+        assertEquals(CursorHelper.encode(sortValue, last), nextCursor);
+    }
+}
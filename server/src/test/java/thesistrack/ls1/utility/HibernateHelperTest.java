@@ -0,0 +1,38 @@
+package thesistrack.ls1.utility;
+
+import org.junit.jupiter.api.Test;
+import thesistrack.ls1.entity.Thesis;
+import thesistrack.ls1.mock.EntityMockFactory;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HibernateHelperTest {
+    @Test
+    void getColumnName_WithColumnAnnotation_ReturnsColumnName() {
+        assertEquals("created_at", HibernateHelper.getColumnName(Thesis.class, "createdAt"));
+    }
+
+    @Test
+    void findAllInOrder_WithUnorderedResult_ReturnsEntitiesInIdOrder() {
+        Thesis first = EntityMockFactory.createThesis("First");
+        Thesis second = EntityMockFactory.createThesis("Second");
+        Thesis third = EntityMockFactory.createThesis("Third");
+        List<UUID> ids = List.of(second.getId(), third.getId(), first.getId());
+
+        List<Thesis> result = HibernateHelper.findAllInOrder(ids, loadedIds -> List.of(first, second, third), Thesis::getId);
+
+        assertEquals(List.of(second, third, first), result);
+    }
+
+    @Test
+    void findAllInOrder_WithEmptyIds_DoesNotCallLoader() {
+        List<Thesis> result = HibernateHelper.findAllInOrder(List.<UUID>of(), loadedIds -> {
+            throw new IllegalStateException("Loader should not be called");
+        }, Thesis::getId);
+
+        assertTrue(result.isEmpty());
+    }
+}
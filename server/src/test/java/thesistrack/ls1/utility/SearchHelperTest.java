@@ -0,0 +1,39 @@
+package thesistrack.ls1.utility;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchHelperTest {
+    @Test
+    void normalizeSearchQuery_WithMixedCase_ReturnsTrimmedLowerCase() {
+        String result = SearchHelper.normalizeSearchQuery("  Max Mustermann ");
+
+        assertEquals("max mustermann", result);
+    }
+
+    @Test
+    void normalizeSearchQuery_WithBlankValue_ReturnsNull() {
+        assertNull(SearchHelper.normalizeSearchQuery("   "));
+        assertNull(SearchHelper.normalizeSearchQuery(null));
+    }
+
+    @Test
+    void toPrefixTsQuery_WithMultipleTerms_ReturnsPrefixConjunction() {
+        String result = SearchHelper.toPrefixTsQuery("Max Muster");
+
+        assertEquals("max:* & muster:*", result);
+    }
+
+    @Test
+    void toPrefixTsQuery_WithSpecialCharacters_DropsOperators() {
+        String result = SearchHelper.toPrefixTsQuery("max@tum.de & (thesis)!");
+
+        assertEquals("max:* & tum:* & de:* & thesis:*", result);
+    }
+
+    @Test
+    void toPrefixTsQuery_WithOnlySpecialCharacters_ReturnsNull() {
+        assertNull(SearchHelper.toPrefixTsQuery("&|!:*"));
+    }
+}
@@ -0,0 +1,28 @@
+package thesistrack.ls1.utility;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlHelperTest {
+    @Test
+    void normalizeQuery_WithLiterals_ReplacesValues() {
+        String result = SqlHelper.normalizeQuery("SELECT * FROM users WHERE email = 'max@tum.de' AND age > 21 LIMIT 50");
+
+        assertEquals("SELECT * FROM users WHERE email = ? AND age > ? LIMIT ?", result);
+    }
+
+    @Test
+    void normalizeQuery_WithDifferentInListLengths_ReturnsSameShape() {
+        String small = SqlHelper.normalizeQuery("select u1_0.user_id from users u1_0 where u1_0.user_id in (?, ?)");
+        String large = SqlHelper.normalizeQuery("select u1_0.user_id from users u1_0 where u1_0.user_id in (?,?,?,?)");
+
+        assertEquals("select u1_0.user_id from users u1_0 where u1_0.user_id in (?)", small);
+        assertEquals(small, large);
+    }
+
+    @Test
+    void normalizeQuery_WithLineBreaks_CollapsesWhitespace() {
+        assertEquals("SELECT ? FROM theses", SqlHelper.normalizeQuery("  SELECT 1\n    FROM   theses "));
+    }
+}
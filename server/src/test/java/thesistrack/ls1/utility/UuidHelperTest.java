@@ -0,0 +1,45 @@
+package thesistrack.ls1.utility;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidHelperTest {
+    @Test
+    void randomV7_ReturnsVersion7WithRfcVariant() {
+        UUID result = UuidHelper.randomV7();
+
+        assertEquals(7, result.version());
+        assertEquals(2, result.variant());
+    }
+
+    @Test
+    void randomV7_EncodesCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID result = UuidHelper.randomV7();
+        long after = System.currentTimeMillis();
+
+        long timestamp = result.getMostSignificantBits() >>> 16;
+
+        assertTrue(timestamp >= before);
+        assertTrue(timestamp <= after + 1);
+    }
+
+    @Test
+    void randomV7_WithManyIds_IsStrictlyIncreasing() {
+        UUID previous = UuidHelper.randomV7();
+
+        for (int i = 0; i < 10_000; i++) {
+            UUID current = UuidHelper.randomV7();
+
+            assertTrue(
+                    Long.compareUnsigned(previous.getMostSignificantBits(), current.getMostSignificantBits()) < 0,
+                    previous + " should be ordered before " + current
+            );
+
+            previous = current;
+        }
+    }
+}